@@ -0,0 +1,759 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary search tree with the same behavior as BinarySearchTree, but with no
+ * object per node: node i is the item keys[i] together with left[i], right[i],
+ * and parent[i] (the indexes of its children and parent, or NIL) and height[i].
+ * The parallel arrays hold the tree in a few large blocks of memory instead of
+ * one small object per item scattered across the heap, which saves the object
+ * headers and references (about 40 bytes per item) and keeps the nodes near the
+ * root, which every lookup visits, close together.
+ *
+ * Slots freed by remove are kept on a free list (linked through left[]) and
+ * reused by add. addAll on an empty tree builds a perfectly balanced tree with
+ * its nodes numbered in breadth-first order, so the top levels of the tree share
+ * a few cache lines; compact() restores that order (and drops free slots) after
+ * later changes.
+ *
+ * @version October 18, 2026
+ */
+public class ArrayBinarySearchTree<TreeType extends Comparable<? super TreeType>> implements SortedSet<TreeType>, Iterable<TreeType>
+{
+
+	// index standing for "no node"
+	private static final int NIL = -1;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private Object[] keys;
+	private int[] left;
+	private int[] right;
+	private int[] parent;
+	private int[] height;
+
+	private int root = NIL;
+	private int size;
+
+	// slots at or past this index have never been used
+	private int used;
+
+	// first slot of the free list, which is linked through left[]
+	private int free = NIL;
+
+	private final boolean selfBalancing;
+
+	// number of structural changes, so that iterators can detect concurrent changes
+	private int modCount;
+
+	/**
+	 * Creates an empty, plain (unbalanced) tree.
+	 */
+	public ArrayBinarySearchTree()
+	{
+		this(false);
+	}
+
+	/**
+	 * Creates an empty tree.
+	 *
+	 * @param selfBalancing - true if the tree should rebalance itself (AVL) after
+	 *                      every add and remove, keeping its height O(log N)
+	 */
+	public ArrayBinarySearchTree(boolean selfBalancing)
+	{
+		this.selfBalancing = selfBalancing;
+		allocateArrays(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Adds the item to the tree if it is not already present. A self-balancing tree
+	 * rebalances on the way back up to the root.
+	 *
+	 * COST: O(tree height)
+	 *
+	 * @param item - the item whose presence is ensured in this set
+	 * @return true if this set changed as a result of this method call
+	 */
+	@Override
+	public boolean add(TreeType item)
+	{
+		if (root == NIL)
+		{
+			root = allocate(item, NIL);
+			return true;
+		}
+
+		int node = root;
+
+		while (true)
+		{
+			int comparison = item.compareTo(keyAt(node));
+
+			if (comparison == 0)
+				return false;
+
+			int child = comparison < 0 ? left[node] : right[node];
+			if (child == NIL)
+			{
+				//allocate may grow the arrays, so read left and right again afterwards
+				int added = allocate(item, node);
+				if (comparison < 0)
+					left[node] = added;
+				else
+					right[node] = added;
+
+				rebalanceFrom(node);
+				return true;
+			}
+
+			node = child;
+		}
+	}
+
+	/**
+	 * Adds every item of the collection. If the tree is empty, the items are sorted
+	 * (unless they already are) and built into a perfectly balanced tree in O(N log
+	 * N) time; otherwise they are added one at a time.
+	 *
+	 * @param items - the collection of items whose presence is ensured in this set
+	 * @return true if this set changed as a result of this method call
+	 */
+	@Override
+	public boolean addAll(Collection<? extends TreeType> items)
+	{
+		if (root == NIL)
+			return bulkLoad(items);
+
+		boolean changed = false;
+		for (TreeType item : items)
+			if (add(item))
+				changed = true;
+
+		return changed;
+	}
+
+	/**
+	 * Builds a balanced tree from the items of an empty tree, numbering its nodes
+	 * in breadth-first order.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean bulkLoad(Collection<? extends TreeType> items)
+	{
+		Object[] sorted = items.toArray();
+
+		boolean inOrder = true;
+		for (int i = 1; i < sorted.length && inOrder; i++)
+			inOrder = ((TreeType) sorted[i - 1]).compareTo((TreeType) sorted[i]) < 0;
+		if (!inOrder)
+			Arrays.sort(sorted);
+
+		int distinct = 0;
+		for (int i = 0; i < sorted.length; i++)
+		{
+			if (distinct == 0 || ((TreeType) sorted[distinct - 1]).compareTo((TreeType) sorted[i]) != 0)
+				sorted[distinct++] = sorted[i];
+		}
+
+		if (distinct == 0)
+			return false;
+
+		allocateArrays(Math.max(INITIAL_CAPACITY, distinct));
+
+		//Each queued range [low, high] becomes the node numbered next, so nodes are
+		//numbered level by level
+		int[] lows = new int[distinct];
+		int[] highs = new int[distinct];
+		int[] parents = new int[distinct];
+		lows[0] = 0;
+		highs[0] = distinct - 1;
+		parents[0] = NIL;
+		int queued = 1;
+
+		for (int node = 0; node < distinct; node++)
+		{
+			int low = lows[node];
+			int high = highs[node];
+			int middle = (low + high) >>> 1;
+
+			keys[node] = sorted[middle];
+			parent[node] = parents[node];
+			left[node] = NIL;
+			right[node] = NIL;
+
+			if (parents[node] != NIL)
+			{
+				if (middle < lows[parents[node]] + highs[parents[node]] >>> 1)
+					left[parents[node]] = node;
+				else
+					right[parents[node]] = node;
+			}
+
+			if (low < middle)
+			{
+				lows[queued] = low;
+				highs[queued] = middle - 1;
+				parents[queued++] = node;
+			}
+			if (middle < high)
+			{
+				lows[queued] = middle + 1;
+				highs[queued] = high;
+				parents[queued++] = node;
+			}
+		}
+
+		//Children are numbered after their parents, so heights can be filled in backwards
+		for (int node = distinct - 1; node >= 0; node--)
+			update(node);
+
+		root = 0;
+		size = distinct;
+		used = distinct;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Removes all items from this set.
+	 */
+	@Override
+	public void clear()
+	{
+		allocateArrays(INITIAL_CAPACITY);
+		modCount++;
+	}
+
+	/**
+	 * Determines if there is an item in this set that is equal to the specified
+	 * item.
+	 *
+	 * COST: O(tree height)
+	 *
+	 * @param item - the item sought in this set
+	 * @return true if there is an item in this set that is equal to the input item
+	 */
+	@Override
+	public boolean contains(TreeType item)
+	{
+		int node = root;
+
+		while (node != NIL)
+		{
+			int comparison = item.compareTo(keyAt(node));
+
+			if (comparison == 0)
+				return true;
+
+			node = comparison < 0 ? left[node] : right[node];
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determines if there is an item in this tree of Strings that is equal to the
+	 * String made of the specified range of characters, without creating that
+	 * String.
+	 *
+	 * COST: O(tree height)
+	 *
+	 * @param chars - the array holding the String sought
+	 * @param offset - the index of its first character
+	 * @param length - the number of characters in it
+	 * @return true if there is an item in this set equal to the String
+	 * @throws ClassCastException if the items of this tree are not Strings
+	 */
+	boolean contains(char[] chars, int offset, int length)
+	{
+		int node = root;
+
+		while (node != NIL)
+		{
+			int comparison = BinarySearchTree.compareChars(chars, offset, length, (String) keyAt(node));
+
+			if (comparison == 0)
+				return true;
+
+			node = comparison < 0 ? left[node] : right[node];
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determines if for each item in the specified collection, there is an item in
+	 * this set that is equal to it.
+	 *
+	 * @param items - the collection of items sought in this set
+	 * @return true if for each item in the specified collection, there is an item
+	 *         in this set that is equal to it
+	 */
+	@Override
+	public boolean containsAll(Collection<? extends TreeType> items)
+	{
+		for (TreeType item : items)
+			if (!contains(item))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Returns the first (i.e., smallest) item in this set.
+	 *
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public TreeType first() throws NoSuchElementException
+	{
+		if (root == NIL)
+			throw new NoSuchElementException();
+
+		return keyAt(leftmost(root));
+	}
+
+	/**
+	 * Returns true if this set contains no items.
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Returns the last (i.e., largest) item in this set.
+	 *
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public TreeType last() throws NoSuchElementException
+	{
+		if (root == NIL)
+			throw new NoSuchElementException();
+
+		int node = root;
+		while (right[node] != NIL)
+			node = right[node];
+
+		return keyAt(node);
+	}
+
+	/**
+	 * Ensures that this set does not contain the specified item. A self-balancing
+	 * tree rebalances on the way back up to the root.
+	 *
+	 * COST: O(tree height)
+	 *
+	 * @param item - the item whose absence is ensured in this set
+	 * @return true if this set changed as a result of this method call
+	 */
+	@Override
+	public boolean remove(TreeType item)
+	{
+		int node = root;
+
+		while (node != NIL)
+		{
+			int comparison = item.compareTo(keyAt(node));
+
+			if (comparison == 0)
+			{
+				//A node with two children takes its successor's item, and the
+				//successor (which has no left child) is removed instead
+				if (left[node] != NIL && right[node] != NIL)
+				{
+					int successor = leftmost(right[node]);
+					keys[node] = keys[successor];
+					node = successor;
+				}
+
+				rebalanceFrom(unlink(node));
+				return true;
+			}
+
+			node = comparison < 0 ? left[node] : right[node];
+		}
+
+		return false;
+	}
+
+	/**
+	 * Ensures that this set does not contain any of the items in the specified
+	 * collection.
+	 *
+	 * @param items - the collection of items whose absence is ensured in this set
+	 * @return true if this set changed as a result of this method call
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends TreeType> items)
+	{
+		boolean changed = false;
+		for (TreeType item : items)
+			if (remove(item))
+				changed = true;
+
+		return changed;
+	}
+
+	/**
+	 * Returns the number of items in this set.
+	 */
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns an ArrayList containing all of the items in this set, in sorted
+	 * order.
+	 */
+	@Override
+	public ArrayList<TreeType> toArrayList()
+	{
+		ArrayList<TreeType> list = new ArrayList<TreeType>(size);
+		for (TreeType item : this)
+			list.add(item);
+
+		return list;
+	}
+
+	/**
+	 * Returns an iterator over the items of this set in sorted order. It throws
+	 * ConcurrentModificationException if the set is changed other than through
+	 * the iterator.
+	 */
+	@Override
+	public Iterator<TreeType> iterator()
+	{
+		return new Iterator<TreeType>()
+		{
+			private int next = root == NIL ? NIL : leftmost(root);
+
+			private final int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext()
+			{
+				return next != NIL;
+			}
+
+			@Override
+			public TreeType next()
+			{
+				if (modCount != expectedModCount)
+					throw new ConcurrentModificationException();
+				if (next == NIL)
+					throw new NoSuchElementException();
+
+				TreeType item = keyAt(next);
+				next = successor(next);
+				return item;
+			}
+		};
+	}
+
+	/**
+	 * Get height of tree from the root (-1 for an empty tree).
+	 *
+	 * COST: O(1)
+	 */
+	public int getHeight()
+	{
+		return heightOf(root);
+	}
+
+	/**
+	 * Returns true if this tree rebalances itself (AVL) on add and remove.
+	 */
+	public boolean isSelfBalancing()
+	{
+		return selfBalancing;
+	}
+
+	/**
+	 * Renumbers the nodes in breadth-first order and releases the free slots, so
+	 * that the top levels of the tree, which every lookup passes through, are
+	 * packed together again. Worthwhile after many adds and removes to a
+	 * dictionary that is then mostly read.
+	 *
+	 * COST: O(N)
+	 */
+	public void compact()
+	{
+		int capacity = Math.max(INITIAL_CAPACITY, size);
+		int[] order = new int[size];
+		int[] renumbered = new int[used];
+		int count = 0;
+
+		if (root != NIL)
+			order[count++] = root;
+		for (int i = 0; i < count; i++)
+		{
+			renumbered[order[i]] = i;
+			if (left[order[i]] != NIL)
+				order[count++] = left[order[i]];
+			if (right[order[i]] != NIL)
+				order[count++] = right[order[i]];
+		}
+
+		Object[] newKeys = new Object[capacity];
+		int[] newLeft = new int[capacity];
+		int[] newRight = new int[capacity];
+		int[] newParent = new int[capacity];
+		int[] newHeight = new int[capacity];
+
+		for (int i = 0; i < count; i++)
+		{
+			int node = order[i];
+			newKeys[i] = keys[node];
+			newLeft[i] = left[node] == NIL ? NIL : renumbered[left[node]];
+			newRight[i] = right[node] == NIL ? NIL : renumbered[right[node]];
+			newParent[i] = parent[node] == NIL ? NIL : renumbered[parent[node]];
+			newHeight[i] = height[node];
+		}
+
+		keys = newKeys;
+		left = newLeft;
+		right = newRight;
+		parent = newParent;
+		height = newHeight;
+		root = count == 0 ? NIL : 0;
+		used = count;
+		free = NIL;
+		modCount++;
+	}
+
+	/**
+	 * Replaces the arrays with empty ones of the given capacity, leaving an empty
+	 * tree.
+	 */
+	private void allocateArrays(int capacity)
+	{
+		keys = new Object[capacity];
+		left = new int[capacity];
+		right = new int[capacity];
+		parent = new int[capacity];
+		height = new int[capacity];
+		root = NIL;
+		size = 0;
+		used = 0;
+		free = NIL;
+	}
+
+	/**
+	 * Takes a slot for a new leaf, from the free list if possible and otherwise
+	 * from the unused end of the arrays (growing them if they are full).
+	 *
+	 * @param item - the item of the new leaf
+	 * @param parentNode - the parent of the new leaf (NIL for the root)
+	 * @return the index of the new leaf
+	 */
+	private int allocate(TreeType item, int parentNode)
+	{
+		int node;
+		if (free != NIL)
+		{
+			node = free;
+			free = left[node];
+		}
+		else
+		{
+			if (used == keys.length)
+			{
+				int capacity = keys.length + (keys.length >> 1);
+				keys = Arrays.copyOf(keys, capacity);
+				left = Arrays.copyOf(left, capacity);
+				right = Arrays.copyOf(right, capacity);
+				parent = Arrays.copyOf(parent, capacity);
+				height = Arrays.copyOf(height, capacity);
+			}
+			node = used++;
+		}
+
+		keys[node] = item;
+		left[node] = NIL;
+		right[node] = NIL;
+		parent[node] = parentNode;
+		height[node] = 0;
+		size++;
+		modCount++;
+		return node;
+	}
+
+	/**
+	 * Removes a node that has at most one child from the tree by linking its parent
+	 * directly to that child, and puts its slot on the free list.
+	 *
+	 * @param node - the node to be removed
+	 * @return the parent of the removed node (NIL if the node was the root)
+	 */
+	private int unlink(int node)
+	{
+		int child = left[node] != NIL ? left[node] : right[node];
+		int parentNode = parent[node];
+
+		if (child != NIL)
+			parent[child] = parentNode;
+		replaceChild(parentNode, node, child);
+
+		keys[node] = null;
+		left[node] = free;
+		free = node;
+		size--;
+		modCount++;
+		return parentNode;
+	}
+
+	/**
+	 * Makes newChild take oldChild's place under parentNode (or as the root).
+	 */
+	private void replaceChild(int parentNode, int oldChild, int newChild)
+	{
+		if (parentNode == NIL)
+			root = newChild;
+		else if (left[parentNode] == oldChild)
+			left[parentNode] = newChild;
+		else
+			right[parentNode] = newChild;
+	}
+
+	/**
+	 * Walks from node up to the root, updating heights and, in a self-balancing
+	 * tree, rotating wherever the subtree heights differ by more than one.
+	 */
+	private void rebalanceFrom(int node)
+	{
+		while (node != NIL)
+		{
+			update(node);
+			if (!selfBalancing)
+			{
+				node = parent[node];
+				continue;
+			}
+
+			int balance = heightOf(left[node]) - heightOf(right[node]);
+
+			//Left side too tall: a left-right shape first needs a left rotation of the left child
+			if (balance > 1)
+			{
+				if (heightOf(left[left[node]]) < heightOf(right[left[node]]))
+					rotateLeft(left[node]);
+				node = rotateRight(node);
+			}
+			//Right side too tall: mirror image of the case above
+			else if (balance < -1)
+			{
+				if (heightOf(right[right[node]]) < heightOf(left[right[node]]))
+					rotateRight(right[node]);
+				node = rotateLeft(node);
+			}
+
+			node = parent[node];
+		}
+	}
+
+	/**
+	 * Rotates node's right child up into node's place.
+	 *
+	 * @return the node now in node's place
+	 */
+	private int rotateLeft(int node)
+	{
+		int pivot = right[node];
+
+		right[node] = left[pivot];
+		if (left[pivot] != NIL)
+			parent[left[pivot]] = node;
+
+		replaceChild(parent[node], node, pivot);
+		parent[pivot] = parent[node];
+		left[pivot] = node;
+		parent[node] = pivot;
+
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	/**
+	 * Rotates node's left child up into node's place.
+	 *
+	 * @return the node now in node's place
+	 */
+	private int rotateRight(int node)
+	{
+		int pivot = left[node];
+
+		left[node] = right[pivot];
+		if (right[pivot] != NIL)
+			parent[right[pivot]] = node;
+
+		replaceChild(parent[node], node, pivot);
+		parent[pivot] = parent[node];
+		right[pivot] = node;
+		parent[node] = pivot;
+
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	/**
+	 * Recomputes the height of node from its children.
+	 */
+	private void update(int node)
+	{
+		height[node] = 1 + Math.max(heightOf(left[node]), heightOf(right[node]));
+	}
+
+	private int heightOf(int node)
+	{
+		return node == NIL ? -1 : height[node];
+	}
+
+	/**
+	 * Returns the node holding the smallest item of the subtree rooted at node.
+	 */
+	private int leftmost(int node)
+	{
+		while (left[node] != NIL)
+			node = left[node];
+
+		return node;
+	}
+
+	/**
+	 * Returns the node holding the next larger item after node's, or NIL.
+	 */
+	private int successor(int node)
+	{
+		if (right[node] != NIL)
+			return leftmost(right[node]);
+
+		//Climb until coming up from a left child
+		int parentNode = parent[node];
+		while (parentNode != NIL && right[parentNode] == node)
+		{
+			node = parentNode;
+			parentNode = parent[node];
+		}
+
+		return parentNode;
+	}
+
+	@SuppressWarnings("unchecked")
+	private TreeType keyAt(int node)
+	{
+		return (TreeType) keys[node];
+	}
+}
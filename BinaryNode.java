@@ -18,12 +18,19 @@ public class BinaryNode<NodeType> {
 	private BinaryNode<NodeType> rightChild;
 	
 	private BinaryNode<NodeType> parentNode;
+	
+	// cached height and size (number of nodes) of the subtree rooted at this node;
+	// kept up to date by BinarySearchTree
+	private int height;
+	
+	private int size;
 
 	public BinaryNode(NodeType data, BinaryNode<NodeType> parent, BinaryNode<NodeType> leftChild, BinaryNode<NodeType> rightChild) {
 		this.data = data;
 		this.leftChild = leftChild;
 		this.rightChild = rightChild;
 		this.parentNode = parent;
+		this.size = 1;
 	}
 
 	public BinaryNode(NodeType data, BinaryNode<NodeType> parent) {
@@ -76,23 +83,24 @@ public class BinaryNode<NodeType> {
 	 * @return reference to the leftmost node in the binary tree rooted at this node
 	 */
 	public BinaryNode<NodeType> getLeftmostNode() {
+		BinaryNode<NodeType> node = this;
 		
-		if (leftChild == null)
-			return this;
+		while (node.leftChild != null)
+			node = node.leftChild;
 		
-		
-		return leftChild.getLeftmostNode();
+		return node;
 	}
 
 	/**
 	 * @return reference to the rightmost node in the binary tree rooted at this node
 	 */
 	public BinaryNode<NodeType> getRightmostNode() {
-		if (rightChild == null)
-			return this;
+		BinaryNode<NodeType> node = this;
 		
+		while (node.rightChild != null)
+			node = node.rightChild;
 		
-		return rightChild.getRightmostNode();
+		return node;
 	}
 
 	/**
@@ -100,26 +108,62 @@ public class BinaryNode<NodeType> {
 	 * 
 	 * The height of a tree is the length of the longest path to a leaf
 	 * node. Consider a tree with a single node to have a height of zero.
+	 * 
+	 * The subtree is walked one level at a time over the child links only, so
+	 * this works on arbitrarily deep (degenerate) trees and on nodes whose
+	 * parent links are not set (or are shared, as in a PersistentBinarySearchTree).
 	 */
 	public int height() {
+		int height = -1;
+		ArrayList<BinaryNode<NodeType>> level = new ArrayList<BinaryNode<NodeType>>();
+		ArrayList<BinaryNode<NodeType>> nextLevel = new ArrayList<BinaryNode<NodeType>>();
+		level.add(this);
 		
-		if (leftChild == null & rightChild == null)
-			return 0;
-		
-		
-		if (rightChild != null && leftChild == null)
-		{
-			return rightChild.height() + 1;
+		while (!level.isEmpty()) {
+			height++;
+			for (BinaryNode<NodeType> node : level) {
+				if (node.leftChild != null)
+					nextLevel.add(node.leftChild);
+				if (node.rightChild != null)
+					nextLevel.add(node.rightChild);
+			}
+			
+			ArrayList<BinaryNode<NodeType>> done = level;
+			level = nextLevel;
+			nextLevel = done;
+			nextLevel.clear();
 		}
-		if (leftChild != null && rightChild == null)
-		{
-			return leftChild.height() + 1;
-		}
-		
-		if (rightChild != null && leftChild != null)
-			return 1 + Math.max(leftChild.height(), rightChild.height());
 		
-		return 0;
+		return height;
+	}
+	
+	/**
+	 * @return the cached height of the subtree rooted at this node (see height()
+	 *         for the computed value)
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @param height - the cached subtree height to be set
+	 */
+	public void setHeight(int height) {
+		this.height = height;
+	}
+
+	/**
+	 * @return the cached number of nodes in the subtree rooted at this node
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @param size - the cached subtree size to be set
+	 */
+	public void setSize(int size) {
+		this.size = size;
 	}
 	
 	/**
@@ -202,22 +246,71 @@ public class BinaryNode<NodeType> {
 		return false;
 	}
 	
+	/**
+	 * Returns the node that comes after this one in an inorder traversal of the
+	 * whole tree, found using the parent links.
+	 * 
+	 * @return the inorder successor of this node, or null if this is the last node
+	 */
+	public BinaryNode<NodeType> nextInOrder()
+	{
+		if (rightChild != null)
+			return rightChild.getLeftmostNode();
+		
+		//Climb until we come up from a left child; that parent is next
+		BinaryNode<NodeType> node = this;
+		while (node.parentNode != null && node.parentNode.rightChild == node)
+			node = node.parentNode;
+		
+		return node.parentNode;
+	}
+	
+	/**
+	 * Returns the node that comes before this one in an inorder traversal of the
+	 * whole tree, found using the parent links.
+	 * 
+	 * @return the inorder predecessor of this node, or null if this is the first node
+	 */
+	public BinaryNode<NodeType> previousInOrder()
+	{
+		if (leftChild != null)
+			return leftChild.getRightmostNode();
+		
+		//Climb until we come up from a right child; that parent is previous
+		BinaryNode<NodeType> node = this;
+		while (node.parentNode != null && node.parentNode.leftChild == node)
+			node = node.parentNode;
+		
+		return node.parentNode;
+	}
+	
 	/**
 	 * Generates list of the data of the tree rooted at this node,
 	 * using inorder traversal (left subtree to element itself to the 
 	 * right subtree).
 	 * 
+	 * The traversal keeps the path of pending ancestors on an explicit stack and
+	 * follows only the child links, so it needs no recursion and works on nodes
+	 * whose parent links are not set.
+	 * 
 	 * @param list of elements visited so far
 	 */
 	public void getSortedArrayList(ArrayList<NodeType> list)
 	{
-		//do a recursive traversal of the subtree on the left
-		if (leftChild != null)
-			leftChild.getSortedArrayList(list);
-		// "visit" this node
-		list.add(data);
-		//do a recursive traversal of the subtree on the right
-		if (rightChild != null)
-			rightChild.getSortedArrayList(list);
+		ArrayList<BinaryNode<NodeType>> stack = new ArrayList<BinaryNode<NodeType>>();
+		BinaryNode<NodeType> node = this;
+		
+		while (node != null || !stack.isEmpty())
+		{
+			while (node != null)
+			{
+				stack.add(node);
+				node = node.leftChild;
+			}
+			
+			node = stack.remove(stack.size() - 1);
+			list.add(node.data);
+			node = node.rightChild;
+		}
 	}
 }
@@ -1,563 +1,1314 @@
-package assign08;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-
-/**
- * 
- * Represents a binary search tree of binary nodes of generic types. Offers methods for 
- * basic operations within a binary search tree.
- * 
- * @author Leonardo Leano and Tristen Kilgrow
- * @version March 22, 2022
- */
-
-public class BinarySearchTree<TreeType extends Comparable<? super TreeType>> implements SortedSet<TreeType>
-{
-	
-	private BinaryNode<TreeType> root;
-	private int size;
-
-	public BinarySearchTree() {
-		root = null;
-		size = 0;
-	}
-	
-
-	/**
-	 * Add the new item to the BST such that the order is maintained. Duplicates are
-	 * not allowed.
-	 * 
-	 * COST: O(tree height)
-	 * 
-	 * @param item - the item whose presence is ensured in this set
-	 * @return true if this set changed as a result of this method call (that is, if
-	 *         the input item was actually inserted); otherwise, returns false
-	 */
-	@Override
-	public boolean add(TreeType item)
-	{
-		
-		BinaryNode<TreeType> temp = root;
-		
-		//If there is not a root yet, the root becomes a binary node with item data and no parent.
-		if (isEmpty())
-		{
-			root = new BinaryNode<TreeType> (item, null, null, null);
-			size++;
-			return true;
-		}
-		
-		while (temp != null)
-		{
-			// CASE 1--they are equal: return (do nothing because item is a duplicate)
-			if (temp.getData().compareTo(item) == 0)
-				return false;
-			
-			
-			// CASE 2--item is bigger: if temp has a right child, advance temp to the right;
-			// else set temp's right child to be a new node containing item and return
-			else if(temp.getData().compareTo(item) < 0)
-			{
-				if (temp.getRightChild() != null)
-					temp = temp.getRightChild();
-				else
-				{
-					temp.setRightChild(new BinaryNode<TreeType>(item, temp));
-					size++;
-					return true;
-				}
-			}
-			
-			// CASE 3--item is smaller: do the opposite of CASE 2 (i.e., go down the left
-			// side of the tree)
-			else 
-			{
-				if (temp.getLeftChild() != null)
-					temp = temp.getLeftChild();
-				else
-				{
-					temp.setLeftChild(new BinaryNode<TreeType>(item, temp));
-					size++;
-					return true;
-				}
-			}
-				
-		}
-		
-		
-		return false;
-	}
-
-	/**
-	 * Adds all the elements in items to the binary search tree. 
-	 * 
-	 * @param items - the collection of items whose presence is ensured in this set
-	 * @return true if this set changed as a result of this method call (that is, if
-	 *         any item in the input collection was actually inserted); otherwise,
-	 *         returns false
-	 */
-	@Override
-	public boolean addAll(Collection<? extends TreeType> items)
-	{
-		//Iterator to go through all data in items
-		Iterator<? extends TreeType> itemsIter = items.iterator();
-		TreeType currentItem;
-		/**
-		 * Purposefully set to false so that if add() returns true once, it will remain true
-		 * always; otherwise will stay false.
-		 */
-		boolean insertionCase = false;
-		
-		while (itemsIter.hasNext())
-		{
-			currentItem = itemsIter.next();
-			
-			if (add(currentItem) == true)
-				insertionCase = true;
-		}
-		
-		return insertionCase;
-	}
-
-	/**
-	 * Removes all items from this set. The set will be empty after this method
-	 * call.
-	 */
-	@Override
-	public void clear()
-	{
-		root = null;
-		size = 0;
-		
-	}
-
-	/**
-	 * Determines if there is an binary node in this set whose data is equal to the specified
-	 * item.
-	 * 
-	 * @param item - the item sought in this set
-	 * @return true if there is an item in this set that is equal to the input item;
-	 *         otherwise, returns false
-	 */
-	@Override
-	public boolean contains(TreeType item)
-	{
-		
-		BinaryNode<TreeType> temp = root;
-		
-		//Loops through tree until binary node with data that matches item is found or not.
-		while (temp != null)
-		{
-			if (temp.getData().compareTo(item) == 0)
-				return true;
-			else if (temp.getData().compareTo(item) < 0)
-				temp = temp.getRightChild();
-			else 
-				temp = temp.getLeftChild();
-		}
-		
-		//A binary node with data that matches item has not been found, return false. 
-		return false;
-	}
-
-	/**
-	 * Determines if for each item in the specified collection, there is an item in
-	 * this set that is equal to it.
-	 * 
-	 * @param items - the collection of items sought in this set
-	 * @return true if for each item in the specified collection, there is an item
-	 *         in this set that is equal to it; otherwise, returns false
-	 */
-	@Override
-	public boolean containsAll(Collection<? extends TreeType> items)
-	{
-		//Iterator to go through every data in items
-		Iterator<? extends TreeType> itemsIter = items.iterator();
-		TreeType currentItem;
-		
-		//Will loop through each data in items
-		while (itemsIter.hasNext())
-		{
-			currentItem = itemsIter.next();
-			//If contains comes back as false, immediately return false as one of the items is not in the tree.
-			if (contains(currentItem) == false)
-				return false;
-			
-		}
-		
-		//If contains never returned false, then all of the items are in the tree; return true.
-		return true;
-	}
-
-	/**
-	 * Returns the first (i.e., smallest) item in this set.
-	 * 
-	 * @throws NoSuchElementException if the set is empty
-	 */
-	@Override
-	public TreeType first() throws NoSuchElementException
-	{
-		if (isEmpty())
-			throw new NoSuchElementException();
-		
-		return root.getLeftmostNode().getData();
-	}
-
-	/**
-	 * Returns true if this binary search tree contains no items.
-	 */
-	@Override
-	public boolean isEmpty()
-	{
-		if (size == 0)
-			return true;
-		
-		return false;
-	}
-
-	/**
-	 * Returns the last (i.e., largest) item in this binary search tree.
-	 * 
-	 * @throws NoSuchElementException if the set is empty
-	 */
-	@Override
-	public TreeType last() throws NoSuchElementException
-	{
-		
-		if (isEmpty())
-			throw new NoSuchElementException();
-		
-		return root.getRightmostNode().getData();
-
-	}
-
-	/**
-	 * Ensures that this binary search tree does not contain the specified item.
-	 * 
-	 * @param item - the item whose absence is ensured in this set
-	 * @return true if this set changed as a result of this method call (that is, if
-	 *         the input item was actually removed); otherwise, returns false
-	 */
-	@Override
-	public boolean remove(TreeType item)
-	{
-		
-		BinaryNode<TreeType> temp = root;
-		
-		while (temp != null)
-		{
-			// CASE 1--they are equal: do the remove, see CASES ROOT & A-C below
-			if (temp.getData().compareTo(item) == 0)
-			{
-				
-				BinaryNode<TreeType> parentOfTemp = temp.getParent();
-				
-				//CASE ROOT -- root node: Find successor of root and replace appropriately
-				//The reason why this is separate from the other cases is that root has no parent node.
-				if (parentOfTemp == null)
-				{
-					BinaryNode<TreeType> successor = temp.successor();
-					BinaryNode<TreeType> parentOfSuccessor = successor.getParent();
-					
-					//Case of removing the root and it's the only node
-					if(root.getRightChild() == null && root.getLeftChild() == null)
-					{
-						clear();
-						return true;
-					}
-					
-					//Case of successor being root's left child and therefore right child is null.
-					if(temp.getLeftChild().getData().compareTo(successor.getData()) == 0)
-					{
-						root = successor;
-						successor.setParent(null);
-						size--;
-						return true;
-					}
-					
-					successor.setLeftChild(temp.getLeftChild());					
-					
-					//If successor already has a right child, include via setting it's parent to
-					//have it as it's new left child. Reassign root to new root
-					if (successor.getRightChild() != null)
-					{					
-						//The case of the successor being root/temp's right child with its
-						//own right child.
-						if (parentOfSuccessor.getData().compareTo(temp.getData()) == 0)
-						{
-							successor.setParent(null);  
-							root = successor;
-							size--;
-							return true;
-						}
-							
-						//Case of successor's parent needing to adopt the successor's right child as its
-						//left child.
-						parentOfSuccessor.setLeftChild(successor.getRightChild());
-						parentOfSuccessor.getLeftChild().setParent(parentOfSuccessor);
-						successor.setRightChild(temp.getRightChild());
-						successor.setParent(null);
-						successor.getLeftChild().setParent(successor);
-						successor.getRightChild().setParent(successor);
-						root = successor;
-						size--;
-						return true;
-					}
-					//Doesn't have right child, just set root's right child to its successor's right child.
-					//Reassign root to new root
-					else
-					{
-						//The case that the successor is the right child of root, and therefore
-						//just set successor's (which is the new root) right child to null
-						if (parentOfSuccessor.getData().compareTo(temp.getData()) == 0)
-						{
-							successor.setRightChild(null);
-							root = successor;
-							size--;
-							return true;
-						}
-						
-						
-						successor.setRightChild(temp.getRightChild()); 
-						parentOfSuccessor.setLeftChild(null);
-						root = successor;
-						size--;
-						return true;
-					}
-
-					
-				}
-				
-				// CASE A--leaf node: simply delete it (i.e., set the parent's child link to
-				// null)
-				if (temp.isLeaf())
-				{
-					if (parentOfTemp.getRightChild() == null || parentOfTemp.getRightChild().getData().compareTo(temp.getData()) != 0)
-					{
-						parentOfTemp.setLeftChild(null);
-						size--;
-						return true;
-					}
-					else
-					{
-						parentOfTemp.setRightChild(null);
-						size--;
-						return true;
-					}
-				}
-				
-				// CASE B--node with one child: adjust its parent's child link to bypass the
-				// node and go directly to the node's child
-				if (temp.oneChild())
-				{	
-					
-					BinaryNode<TreeType> successor = temp.successor();
-					
-					//Case of temp being left child of parent
-					//First checks if right child is null in case of parent only having one child
-					//and therefore .getData() wouldn't work on a null
-					if (parentOfTemp.getRightChild() == null || parentOfTemp.getRightChild().getData().compareTo(temp.getData()) != 0)
-					{
-						parentOfTemp.setLeftChild(successor);
-						successor.setParent(parentOfTemp);
-						size--;
-						return true;
-					}
-					//Case of temp being right child of parent
-					else
-					{
-						parentOfTemp.setRightChild(successor);
-						successor.setParent(parentOfTemp);
-						size--;
-						return true;
-					}
-				}
-				
-				// CASE C--node with two children: replace the node's data with that of the
-				// smallest node of its right subtree (its successor),
-				// then remove the successor node (guaranteed to have at most one child)
-				if (temp.twoChild())
-				{
-					BinaryNode<TreeType> successor = temp.successor();
-					
-					
-					//Case of temp being the parent's right child
-					//First checks if left child is null in case of parent only having one child
-					//and therefore .getData() wouldn't work on a null
-					if (parentOfTemp.getLeftChild() == null || parentOfTemp.getLeftChild().getData().compareTo(temp.getData()) != 0)
-					{
-						//Purpose of parentOfSuccessor is to re-assign the right child of the successor
-						//(if there's any) to be the left child of the successor's parent unless if 
-						//parentOfSuccessor is temp.
-						BinaryNode<TreeType> parentOfSuccessor = successor.getParent();
-						
-						//Case of successor being right child of temp (what we're trying to delete). 
-						if (parentOfSuccessor.getData().compareTo(temp.getData()) == 0)
-						{
-							successor.setLeftChild(parentOfSuccessor.getLeftChild());
-							successor.getLeftChild().setParent(successor);
-							parentOfTemp.setRightChild(successor);
-							successor.setParent(parentOfTemp);
-							size--;
-							return true;
-						}
-						
-						parentOfTemp.setRightChild(successor);
-						parentOfTemp.getRightChild().setParent(parentOfTemp);
-						successor.setLeftChild(temp.getLeftChild());
-						successor.getLeftChild().setParent(successor);
-						
-						//If the successor has a right child, set parent of successor to be that right child
-						//Then set successor's new right child to include temp's right child
-						if (successor.getRightChild() != null)
-						{
-							parentOfSuccessor.setLeftChild(successor.getRightChild());
-							parentOfSuccessor.getLeftChild().setParent(parentOfSuccessor);
-							successor.setRightChild(temp.getRightChild());
-							successor.getRightChild().setParent(successor);
-							size--;
-							return true;
-						}
-						//If the successor doesn't have a right child, just set temp's right child.
-						else
-						{
-							successor.setRightChild(temp.getRightChild());
-							successor.getRightChild().setParent(successor);
-							size--;
-							return true;
-						}
-					}
-					//Case of temp being the parent's left child.
-					else
-					{
-						
-						
-						//Same thing as above, except successor is being set as temp's parent's left child instead.
-						BinaryNode<TreeType> parentOfSuccessor = successor.getParent();
-						
-						
-						parentOfTemp.setLeftChild(successor);
-						successor.setParent(parentOfTemp);
-						successor.setLeftChild(temp.getLeftChild());
-						successor.getLeftChild().setParent(successor);
-						
-						if (parentOfSuccessor.getData().compareTo(temp.getData()) == 0)
-						{
-							size--;
-							return true;
-						}
-						
-						if (successor.getRightChild() != null)
-						{
-							parentOfSuccessor.setLeftChild(successor.getRightChild());
-							parentOfSuccessor.getLeftChild().setParent(parentOfSuccessor);
-							successor.setRightChild(temp.getRightChild());
-							successor.getRightChild().setParent(successor);
-							size--;
-							return true;
-						}
-						else
-						{
-							
-							successor.setRightChild(temp.getRightChild());
-							successor.getRightChild().setParent(successor);
-							parentOfSuccessor.setLeftChild(null);
-						}
-					}
-				}
-			}
-			
-			// CASE 2--item is bigger: if temp does not have a right child, return (the item
-			// is not in the tree);
-			// else advance temp to the right
-			else if (temp.getData().compareTo(item) < 0)
-			{
-				if (temp.getRightChild() == null)
-					return false;
-				temp = temp.getRightChild();
-			}
-			// CASE 3--item is smaller: if temp does not have a left child, return (the item
-			// is not in the tree);
-			// else advance temp to the left
-			else
-			{
-				if (temp.getLeftChild() == null)
-					return false;
-				temp = temp.getLeftChild();
-			}
-		}
-		
-		//Node proposed is not in the set
-		return false;
-	}
-
-	/**
-	 * Ensures that this set does not contain any of the items in the specified
-	 * collection.
-	 * 
-	 * @param items - the collection of items whose absence is ensured in this set
-	 * @return true if this set changed as a result of this method call (that is, if
-	 *         any item in the input collection was actually removed); otherwise,
-	 *         returns false
-	 */
-	@Override
-	public boolean removeAll(Collection<? extends TreeType> items)
-	{
-		
-		Iterator<? extends TreeType> itemsIter = items.iterator();
-		TreeType currentItem;
-		boolean removeCase = false;
-		
-		//If any of the nodes within the tree with values that match any of the ones in items,
-		//it will return true.
-		while (itemsIter.hasNext())
-		{
-			currentItem = itemsIter.next();
-			
-			if (remove(currentItem))
-				removeCase = true;
-		}
-		
-		//None of the values in items are in the binary tree and therefore nothing was changed
-		return removeCase;
-	}
-
-	/**
-	 * Returns the number of items in this set.
-	 */
-	@Override
-	public int size()
-	{
-		return size;
-	}
-
-	/**
-	 * Returns an ArrayList containing all of the items in this set, in sorted
-	 * order.
-	 */
-	@Override
-	public ArrayList<TreeType> toArrayList()
-	{
-		ArrayList<TreeType> sortedArrayList = new ArrayList <TreeType>();
-		
-		if (isEmpty())
-			return sortedArrayList;
-		
-		root.getSortedArrayList(sortedArrayList);
-		
-		return sortedArrayList;
-	}
-	
-	/**
-	 * Get height of tree from the root
-	 * @return
-	 */
-	public int getHeight()
-	{
-		return root.height();
-	}
-
-}
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 
+ * Represents a binary search tree of binary nodes of generic types. Offers methods for 
+ * basic operations within a binary search tree.
+ * 
+ * The tree can optionally be self-balancing (AVL), in which case its height stays
+ * O(log N) regardless of the order items are added in (e.g., an already sorted
+ * dictionary file).
+ * 
+ * Every node caches the height and size of its subtree, which add and remove keep
+ * up to date on their way back to the root. This makes getHeight() O(1), and
+ * select(k) and rank(item) (order statistics) O(tree height).
+ * 
+ * @author Leonardo Leano and Tristen Kilgrow
+ * @version March 22, 2022
+ */
+
+public class BinarySearchTree<TreeType extends Comparable<? super TreeType>> implements SortedSet<TreeType>, Iterable<TreeType>
+{
+	
+	private BinaryNode<TreeType> root;
+	private int size;
+	private final boolean selfBalancing;
+	
+	// number of structural changes, so that iterators can detect concurrent changes
+	private int modCount;
+	
+	// counts of contains calls and the comparisons they make; null (and free)
+	// until enableStatistics() is called
+	private volatile LookupStatistics statistics;
+
+	/**
+	 * Creates an empty, plain (unbalanced) binary search tree.
+	 */
+	public BinarySearchTree() {
+		this(false);
+	}
+	
+	/**
+	 * Creates an empty binary search tree.
+	 * 
+	 * @param selfBalancing - true if the tree should rebalance itself (AVL) after
+	 *                      every add and remove, keeping its height O(log N)
+	 */
+	public BinarySearchTree(boolean selfBalancing) {
+		root = null;
+		size = 0;
+		this.selfBalancing = selfBalancing;
+	}
+	
+
+	/**
+	 * Add the new item to the BST such that the order is maintained. Duplicates are
+	 * not allowed. A self-balancing tree rebalances on the way back up to the root.
+	 * 
+	 * COST: O(tree height)
+	 * 
+	 * @param item - the item whose presence is ensured in this set
+	 * @return true if this set changed as a result of this method call (that is, if
+	 *         the input item was actually inserted); otherwise, returns false
+	 */
+	@Override
+	public boolean add(TreeType item)
+	{
+		
+		BinaryNode<TreeType> temp = root;
+		
+		//If there is not a root yet, the root becomes a binary node with item data and no parent.
+		if (isEmpty())
+		{
+			root = newNode(item, null);
+			size++;
+			modCount++;
+			return true;
+		}
+		
+		long key = keyOf(item);
+		
+		while (temp != null)
+		{
+			int comparison = compare(item, key, temp);
+			
+			// CASE 1--they are equal: return (do nothing because item is a duplicate)
+			if (comparison == 0)
+				return false;
+			
+			
+			// CASE 2--item is bigger: if temp has a right child, advance temp to the right;
+			// else set temp's right child to be a new node containing item and return
+			else if (comparison > 0)
+			{
+				if (temp.getRightChild() != null)
+					temp = temp.getRightChild();
+				else
+				{
+					temp.setRightChild(newNode(item, temp));
+					size++;
+					modCount++;
+					rebalanceFrom(temp);
+					return true;
+				}
+			}
+			
+			// CASE 3--item is smaller: do the opposite of CASE 2 (i.e., go down the left
+			// side of the tree)
+			else 
+			{
+				if (temp.getLeftChild() != null)
+					temp = temp.getLeftChild();
+				else
+				{
+					temp.setLeftChild(newNode(item, temp));
+					size++;
+					modCount++;
+					rebalanceFrom(temp);
+					return true;
+				}
+			}
+				
+		}
+		
+		
+		return false;
+	}
+
+	/**
+	 * Adds all the elements in items to the binary search tree. 
+	 * 
+	 * If the tree is empty, the items are instead bulk-loaded: they are sorted once
+	 * (skipped when they already arrive in order), duplicates are dropped, and a
+	 * perfectly balanced tree is built directly from the array.
+	 * 
+	 * COST: O(N) for sorted input into an empty tree, O(N log N) for unsorted input
+	 * into an empty tree, otherwise O(N * tree height)
+	 * 
+	 * @param items - the collection of items whose presence is ensured in this set
+	 * @return true if this set changed as a result of this method call (that is, if
+	 *         any item in the input collection was actually inserted); otherwise,
+	 *         returns false
+	 */
+	@Override
+	public boolean addAll(Collection<? extends TreeType> items)
+	{
+		if (isEmpty())
+			return bulkLoad(items);
+		
+		//Iterator to go through all data in items
+		Iterator<? extends TreeType> itemsIter = items.iterator();
+		TreeType currentItem;
+		/**
+		 * Purposefully set to false so that if add() returns true once, it will remain true
+		 * always; otherwise will stay false.
+		 */
+		boolean insertionCase = false;
+		
+		while (itemsIter.hasNext())
+		{
+			currentItem = itemsIter.next();
+			
+			if (add(currentItem) == true)
+				insertionCase = true;
+		}
+		
+		return insertionCase;
+	}
+	
+	/**
+	 * Replaces the (empty) tree with a perfectly balanced tree holding the distinct
+	 * items of the given collection.
+	 * 
+	 * @param items - the items to be loaded
+	 * @return true if any item was loaded
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean bulkLoad(Collection<? extends TreeType> items)
+	{
+		Object[] sorted = items.toArray();
+		
+		//Only pay for a sort if the input isn't already in order
+		for (int i = 1; i < sorted.length; i++)
+		{
+			if (((TreeType) sorted[i - 1]).compareTo((TreeType) sorted[i]) > 0)
+			{
+				Arrays.sort(sorted);
+				break;
+			}
+		}
+		
+		//Compact the array in place, keeping the first of each run of equal items
+		int distinct = 0;
+		for (int i = 0; i < sorted.length; i++)
+		{
+			if (distinct == 0 || ((TreeType) sorted[distinct - 1]).compareTo((TreeType) sorted[i]) != 0)
+				sorted[distinct++] = sorted[i];
+		}
+		
+		loadSorted(sorted, distinct);
+		return distinct > 0;
+	}
+	
+	/**
+	 * Replaces the contents of this tree with a perfectly balanced tree of the
+	 * sorted, duplicate-free items in sorted[0..count).
+	 */
+	private void loadSorted(Object[] sorted, int count)
+	{
+		root = buildBalanced(sorted, 0, count - 1, null);
+		size = count;
+		modCount++;
+	}
+	
+	/**
+	 * Builds a perfectly balanced subtree from the sorted, duplicate-free items in
+	 * sorted[low..high], using the middle item as the subtree's root.
+	 * 
+	 * @param sorted - the items, in sorted order
+	 * @param low - index of the first item in the subtree
+	 * @param high - index of the last item in the subtree
+	 * @param parent - the parent of the subtree's root
+	 * @return the root of the subtree, or null if the range is empty
+	 */
+	@SuppressWarnings("unchecked")
+	private BinaryNode<TreeType> buildBalanced(Object[] sorted, int low, int high, BinaryNode<TreeType> parent)
+	{
+		if (low > high)
+			return null;
+		
+		int middle = (low + high) >>> 1;
+		BinaryNode<TreeType> node = newNode((TreeType) sorted[middle], parent);
+		node.setLeftChild(buildBalanced(sorted, low, middle - 1, node));
+		node.setRightChild(buildBalanced(sorted, middle + 1, high, node));
+		update(node);
+		return node;
+	}
+
+	/**
+	 * Removes all items from this set. The set will be empty after this method
+	 * call.
+	 */
+	@Override
+	public void clear()
+	{
+		root = null;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Determines if there is an binary node in this set whose data is equal to the specified
+	 * item.
+	 * 
+	 * @param item - the item sought in this set
+	 * @return true if there is an item in this set that is equal to the input item;
+	 *         otherwise, returns false
+	 */
+	@Override
+	public boolean contains(TreeType item)
+	{
+		
+		LookupStatistics statistics = this.statistics;
+		if (statistics != null)
+			return containsCounted(item, statistics);
+		
+		BinaryNode<TreeType> temp = root;
+		long key = keyOf(item);
+		
+		//Loops through tree until binary node with data that matches item is found or not.
+		while (temp != null)
+		{
+			int comparison = compare(item, key, temp);
+			
+			if (comparison == 0)
+				return true;
+			else if (comparison > 0)
+				temp = temp.getRightChild();
+			else 
+				temp = temp.getLeftChild();
+		}
+		
+		//A binary node with data that matches item has not been found, return false. 
+		return false;
+	}
+	
+	/**
+	 * Same as contains, but records the lookup and the comparisons it makes.
+	 */
+	private boolean containsCounted(TreeType item, LookupStatistics statistics)
+	{
+		BinaryNode<TreeType> temp = root;
+		long key = keyOf(item);
+		long comparisons = 0;
+		boolean found = false;
+		
+		while (temp != null)
+		{
+			int comparison = compare(item, key, temp);
+			comparisons++;
+			
+			if (comparison == 0)
+			{
+				found = true;
+				break;
+			}
+			else if (comparison > 0)
+				temp = temp.getRightChild();
+			else 
+				temp = temp.getLeftChild();
+		}
+		
+		statistics.lookups.increment();
+		statistics.comparisons.add(comparisons);
+		return found;
+	}
+
+	/**
+	 * Determines if there is an item in this tree of Strings that is equal to the
+	 * String made of the specified range of characters, without creating that
+	 * String. Lookups are counted as for contains.
+	 * 
+	 * COST: O(tree height)
+	 * 
+	 * @param chars - the array holding the String sought
+	 * @param offset - the index of its first character
+	 * @param length - the number of characters in it
+	 * @return true if there is an item in this set equal to the String
+	 * @throws ClassCastException if the items of this tree are not Strings
+	 */
+	boolean contains(char[] chars, int offset, int length)
+	{
+		BinaryNode<TreeType> temp = root;
+		long key = keyOf(chars, offset, length);
+		long comparisons = 0;
+		boolean found = false;
+		
+		while (temp != null)
+		{
+			int comparison = compare(chars, offset, length, key, temp);
+			comparisons++;
+			
+			if (comparison == 0)
+			{
+				found = true;
+				break;
+			}
+			else if (comparison > 0)
+				temp = temp.getRightChild();
+			else 
+				temp = temp.getLeftChild();
+		}
+		
+		LookupStatistics statistics = this.statistics;
+		if (statistics != null)
+		{
+			statistics.lookups.increment();
+			statistics.comparisons.add(comparisons);
+		}
+		return found;
+	}
+	
+	/**
+	 * Compares a range of characters with a String the way String.compareTo
+	 * compares two Strings.
+	 * 
+	 * @param chars - the array holding the characters
+	 * @param offset - the index of the first character
+	 * @param length - the number of characters
+	 * @param word - the String compared with
+	 * @return a negative number, zero, or a positive number as the characters
+	 *         come before, are equal to, or come after word
+	 */
+	static int compareChars(char[] chars, int offset, int length, String word)
+	{
+		int common = Math.min(length, word.length());
+		
+		for (int i = 0; i < common; i++)
+		{
+			int difference = chars[offset + i] - word.charAt(i);
+			if (difference != 0)
+				return difference;
+		}
+		
+		return length - word.length();
+	}
+
+	/**
+	 * Determines if for each item in the specified collection, there is an item in
+	 * this set that is equal to it.
+	 * 
+	 * @param items - the collection of items sought in this set
+	 * @return true if for each item in the specified collection, there is an item
+	 *         in this set that is equal to it; otherwise, returns false
+	 */
+	@Override
+	public boolean containsAll(Collection<? extends TreeType> items)
+	{
+		//Iterator to go through every data in items
+		Iterator<? extends TreeType> itemsIter = items.iterator();
+		TreeType currentItem;
+		
+		//When there are enough items that walking the whole tree is cheaper than a
+		//search per item, walk the tree alongside the items for as long as they come
+		//in sorted order
+		if ((long) items.size() * (getHeight() + 1) >= size)
+		{
+			BinaryNode<TreeType> node = root == null ? null : root.getLeftmostNode();
+			TreeType previous = null;
+			
+			while (itemsIter.hasNext())
+			{
+				currentItem = itemsIter.next();
+				
+				//Out of order: look up this item and the rest one at a time below
+				if (previous != null && currentItem.compareTo(previous) < 0)
+				{
+					if (contains(currentItem) == false)
+						return false;
+					break;
+				}
+				
+				while (node != null && node.getData().compareTo(currentItem) < 0)
+					node = node.nextInOrder();
+				if (node == null || node.getData().compareTo(currentItem) != 0)
+					return false;
+				
+				previous = currentItem;
+			}
+		}
+		
+		//Will loop through each (remaining) data in items
+		while (itemsIter.hasNext())
+		{
+			currentItem = itemsIter.next();
+			//If contains comes back as false, immediately return false as one of the items is not in the tree.
+			if (contains(currentItem) == false)
+				return false;
+			
+		}
+		
+		//If contains never returned false, then all of the items are in the tree; return true.
+		return true;
+	}
+
+	/**
+	 * Returns the first (i.e., smallest) item in this set.
+	 * 
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public TreeType first() throws NoSuchElementException
+	{
+		if (isEmpty())
+			throw new NoSuchElementException();
+		
+		return root.getLeftmostNode().getData();
+	}
+
+	/**
+	 * Returns true if this binary search tree contains no items.
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		if (size == 0)
+			return true;
+		
+		return false;
+	}
+
+	/**
+	 * Returns the last (i.e., largest) item in this binary search tree.
+	 * 
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public TreeType last() throws NoSuchElementException
+	{
+		
+		if (isEmpty())
+			throw new NoSuchElementException();
+		
+		return root.getRightmostNode().getData();
+
+	}
+
+	/**
+	 * Ensures that this binary search tree does not contain the specified item. A
+	 * self-balancing tree rebalances on the way back up to the root.
+	 * 
+	 * @param item - the item whose absence is ensured in this set
+	 * @return true if this set changed as a result of this method call (that is, if
+	 *         the input item was actually removed); otherwise, returns false
+	 */
+	@Override
+	public boolean remove(TreeType item)
+	{
+		
+		BinaryNode<TreeType> temp = root;
+		long key = keyOf(item);
+		
+		while (temp != null)
+		{
+			int comparison = compare(item, key, temp);
+			
+			// CASE 1--they are equal: do the remove, see CASES A-C below
+			if (comparison == 0)
+			{
+				// CASE A--leaf node and CASE B--node with one child: adjust its parent's
+				// child link to bypass the node and go directly to the node's child (if any)
+				if (!temp.twoChild())
+				{
+					rebalanceFrom(unlink(temp));
+					return true;
+				}
+				
+				// CASE C--node with two children: replace the node's data with that of the
+				// smallest node of its right subtree (its successor),
+				// then remove the successor node (guaranteed to have at most one child)
+				BinaryNode<TreeType> successor = temp.successor();
+				temp.setData(successor.getData());
+				rebalanceFrom(unlink(successor));
+				return true;
+			}
+			
+			// CASE 2--item is bigger: if temp does not have a right child, return (the item
+			// is not in the tree);
+			// else advance temp to the right
+			else if (comparison > 0)
+			{
+				if (temp.getRightChild() == null)
+					return false;
+				temp = temp.getRightChild();
+			}
+			// CASE 3--item is smaller: if temp does not have a left child, return (the item
+			// is not in the tree);
+			// else advance temp to the left
+			else
+			{
+				if (temp.getLeftChild() == null)
+					return false;
+				temp = temp.getLeftChild();
+			}
+		}
+		
+		//Node proposed is not in the set
+		return false;
+	}
+	
+	/**
+	 * Creates the node holding a new item. Subclasses that keep extra information
+	 * in their nodes override this (together with keyOf and compare).
+	 * 
+	 * @param item - the item to be held
+	 * @param parent - the parent of the new node (null for the root)
+	 * @return the new node
+	 */
+	protected BinaryNode<TreeType> newNode(TreeType item, BinaryNode<TreeType> parent)
+	{
+		return new BinaryNode<TreeType>(item, parent);
+	}
+	
+	/**
+	 * Returns a key for an item that is computed once per add, contains, or remove
+	 * and passed to every compare on the way down. The plain tree needs none.
+	 * 
+	 * @param item - the item being added, sought, or removed
+	 * @return the key of item
+	 */
+	protected long keyOf(TreeType item)
+	{
+		return 0;
+	}
+	
+	/**
+	 * Compares an item with the item held in a node. This is the one comparison
+	 * made at each level of add, contains, and remove.
+	 * 
+	 * @param item - the item being added, sought, or removed
+	 * @param key - keyOf(item)
+	 * @param node - the node compared with
+	 * @return a negative number, zero, or a positive number as item is less than,
+	 *         equal to, or greater than the node's item
+	 */
+	protected int compare(TreeType item, long key, BinaryNode<TreeType> node)
+	{
+		return item.compareTo(node.getData());
+	}
+	
+	/**
+	 * Returns the key of the String made of a range of characters, which must
+	 * equal keyOf of that String. The plain tree needs none.
+	 * 
+	 * @param chars - the array holding the String
+	 * @param offset - the index of its first character
+	 * @param length - the number of characters in it
+	 * @return the key of the String
+	 */
+	protected long keyOf(char[] chars, int offset, int length)
+	{
+		return 0;
+	}
+	
+	/**
+	 * Compares the String made of a range of characters with the String held in a
+	 * node, as compare does for Strings; used by contains(char[], int, int).
+	 * 
+	 * @param chars - the array holding the String
+	 * @param offset - the index of its first character
+	 * @param length - the number of characters in it
+	 * @param key - keyOf(chars, offset, length)
+	 * @param node - the node compared with
+	 * @return a negative number, zero, or a positive number as the String is less
+	 *         than, equal to, or greater than the node's item
+	 * @throws ClassCastException if the node's item is not a String
+	 */
+	protected int compare(char[] chars, int offset, int length, long key, BinaryNode<TreeType> node)
+	{
+		return compareChars(chars, offset, length, (String) node.getData());
+	}
+	
+	/**
+	 * Removes a node that has at most one child from the tree by linking its parent
+	 * directly to that child.
+	 * 
+	 * @param node - the node to be removed
+	 * @return the parent of the removed node (null if the node was the root)
+	 */
+	private BinaryNode<TreeType> unlink(BinaryNode<TreeType> node)
+	{
+		BinaryNode<TreeType> child = node.getLeftChild() != null ? node.getLeftChild() : node.getRightChild();
+		BinaryNode<TreeType> parent = node.getParent();
+		
+		if (child != null)
+			child.setParent(parent);
+		
+		replaceChild(parent, node, child);
+		size--;
+		modCount++;
+		return parent;
+	}
+	
+	/**
+	 * Makes newChild take the place of oldChild under parent. A null parent means
+	 * oldChild is the root. Children are told apart by reference, not by data.
+	 * 
+	 * @param parent - the parent of oldChild
+	 * @param oldChild - the child being replaced
+	 * @param newChild - the replacement (may be null)
+	 */
+	private void replaceChild(BinaryNode<TreeType> parent, BinaryNode<TreeType> oldChild, BinaryNode<TreeType> newChild)
+	{
+		if (parent == null)
+			root = newChild;
+		else if (parent.getLeftChild() == oldChild)
+			parent.setLeftChild(newChild);
+		else
+			parent.setRightChild(newChild);
+	}
+	
+	/**
+	 * Walks from the given node up to the root, refreshing cached heights and sizes
+	 * and, if this tree is self-balancing, performing AVL rotations wherever a
+	 * node's subtrees differ in height by more than one.
+	 * 
+	 * COST: O(tree height)
+	 * 
+	 * @param node - the lowest node whose subtree changed
+	 */
+	private void rebalanceFrom(BinaryNode<TreeType> node)
+	{
+		while (node != null)
+		{
+			update(node);
+			if (!selfBalancing)
+			{
+				node = node.getParent();
+				continue;
+			}
+			
+			int balance = heightOf(node.getLeftChild()) - heightOf(node.getRightChild());
+			
+			//Left side too tall: a left-right shape first needs a left rotation of the left child
+			if (balance > 1)
+			{
+				BinaryNode<TreeType> left = node.getLeftChild();
+				if (heightOf(left.getLeftChild()) < heightOf(left.getRightChild()))
+					rotateLeft(left);
+				node = rotateRight(node);
+			}
+			//Right side too tall: mirror image of the case above
+			else if (balance < -1)
+			{
+				BinaryNode<TreeType> right = node.getRightChild();
+				if (heightOf(right.getRightChild()) < heightOf(right.getLeftChild()))
+					rotateRight(right);
+				node = rotateLeft(node);
+			}
+			
+			node = node.getParent();
+		}
+	}
+	
+	/**
+	 * Rotates the subtree rooted at node to the left, so that node's right child
+	 * takes its place.
+	 * 
+	 * @return the new root of the subtree
+	 */
+	private BinaryNode<TreeType> rotateLeft(BinaryNode<TreeType> node)
+	{
+		BinaryNode<TreeType> pivot = node.getRightChild();
+		
+		node.setRightChild(pivot.getLeftChild());
+		if (pivot.getLeftChild() != null)
+			pivot.getLeftChild().setParent(node);
+		
+		pivot.setParent(node.getParent());
+		replaceChild(node.getParent(), node, pivot);
+		
+		pivot.setLeftChild(node);
+		node.setParent(pivot);
+		
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+	
+	/**
+	 * Rotates the subtree rooted at node to the right, so that node's left child
+	 * takes its place.
+	 * 
+	 * @return the new root of the subtree
+	 */
+	private BinaryNode<TreeType> rotateRight(BinaryNode<TreeType> node)
+	{
+		BinaryNode<TreeType> pivot = node.getLeftChild();
+		
+		node.setLeftChild(pivot.getRightChild());
+		if (pivot.getRightChild() != null)
+			pivot.getRightChild().setParent(node);
+		
+		pivot.setParent(node.getParent());
+		replaceChild(node.getParent(), node, pivot);
+		
+		pivot.setRightChild(node);
+		node.setParent(pivot);
+		
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+	
+	/**
+	 * Recomputes the cached height and size of node from those of its children.
+	 */
+	private void update(BinaryNode<TreeType> node)
+	{
+		node.setHeight(1 + Math.max(heightOf(node.getLeftChild()), heightOf(node.getRightChild())));
+		node.setSize(1 + sizeOf(node.getLeftChild()) + sizeOf(node.getRightChild()));
+	}
+	
+	/**
+	 * @return the cached height of node, or -1 for an empty subtree
+	 */
+	private static int heightOf(BinaryNode<?> node)
+	{
+		if (node == null)
+			return -1;
+		
+		return node.getHeight();
+	}
+	
+	/**
+	 * @return the cached size of node's subtree, or 0 for an empty subtree
+	 */
+	private static int sizeOf(BinaryNode<?> node)
+	{
+		if (node == null)
+			return 0;
+		
+		return node.getSize();
+	}
+
+	/**
+	 * Ensures that this set does not contain any of the items in the specified
+	 * collection.
+	 * 
+	 * @param items - the collection of items whose absence is ensured in this set
+	 * @return true if this set changed as a result of this method call (that is, if
+	 *         any item in the input collection was actually removed); otherwise,
+	 *         returns false
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends TreeType> items)
+	{
+		
+		Iterator<? extends TreeType> itemsIter = items.iterator();
+		TreeType currentItem;
+		boolean removeCase = false;
+		
+		//If any of the nodes within the tree with values that match any of the ones in items,
+		//it will return true.
+		while (itemsIter.hasNext())
+		{
+			currentItem = itemsIter.next();
+			
+			if (remove(currentItem))
+				removeCase = true;
+		}
+		
+		//None of the values in items are in the binary tree and therefore nothing was changed
+		return removeCase;
+	}
+
+	/**
+	 * Returns the number of items in this set.
+	 */
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns an ArrayList containing all of the items in this set, in sorted
+	 * order.
+	 */
+	@Override
+	public ArrayList<TreeType> toArrayList()
+	{
+		ArrayList<TreeType> sortedArrayList = new ArrayList <TreeType>();
+		
+		if (isEmpty())
+			return sortedArrayList;
+		
+		root.getSortedArrayList(sortedArrayList);
+		
+		return sortedArrayList;
+	}
+	
+	/**
+	 * Returns an iterator over the items of this tree in sorted order. It steps
+	 * from node to node through the parent links, so it uses O(1) extra memory, and
+	 * the tree is not copied. The iterator does not support remove(), and fails if
+	 * the tree is changed while it is in use.
+	 */
+	@Override
+	public Iterator<TreeType> iterator()
+	{
+		return new InOrderIterator(root == null ? null : root.getLeftmostNode(), null);
+	}
+	
+	/**
+	 * Returns the smallest item in this tree that is greater than or equal to the
+	 * given item, or null if there is none.
+	 * 
+	 * COST: O(tree height)
+	 */
+	public TreeType ceiling(TreeType item)
+	{
+		BinaryNode<TreeType> node = ceilingNode(item);
+		return node == null ? null : node.getData();
+	}
+	
+	/**
+	 * Returns the largest item in this tree that is less than or equal to the given
+	 * item, or null if there is none.
+	 * 
+	 * COST: O(tree height)
+	 */
+	public TreeType floor(TreeType item)
+	{
+		BinaryNode<TreeType> temp = root;
+		BinaryNode<TreeType> best = null;
+		
+		while (temp != null)
+		{
+			int comparison = item.compareTo(temp.getData());
+			if (comparison == 0)
+				return temp.getData();
+			
+			//temp is a candidate; anything closer must be in its right subtree
+			if (comparison > 0)
+			{
+				best = temp;
+				temp = temp.getRightChild();
+			}
+			else
+				temp = temp.getLeftChild();
+		}
+		
+		return best == null ? null : best.getData();
+	}
+	
+	/**
+	 * Returns the items of this tree from fromItem (inclusive) up to toItem
+	 * (exclusive), in sorted order. Nothing is copied: each iteration seeks to
+	 * fromItem in O(tree height) and then walks the tree lazily, so iterating costs
+	 * time proportional to the number of items in the range, not the tree size.
+	 * 
+	 * @param fromItem - the low end of the range (inclusive)
+	 * @param toItem   - the high end of the range (exclusive)
+	 * @return a view of the items in the range
+	 */
+	public Iterable<TreeType> subSet(TreeType fromItem, TreeType toItem)
+	{
+		return () -> new InOrderIterator(ceilingNode(fromItem), toItem);
+	}
+	
+	/**
+	 * Returns the items of this tree less than toItem, in sorted order, lazily (see
+	 * subSet).
+	 * 
+	 * @param toItem - the high end of the range (exclusive)
+	 * @return a view of the items in the range
+	 */
+	public Iterable<TreeType> headSet(TreeType toItem)
+	{
+		return () -> new InOrderIterator(root == null ? null : root.getLeftmostNode(), toItem);
+	}
+	
+	/**
+	 * Returns the items of this tree greater than or equal to fromItem, in sorted
+	 * order, lazily (see subSet).
+	 * 
+	 * @param fromItem - the low end of the range (inclusive)
+	 * @return a view of the items in the range
+	 */
+	public Iterable<TreeType> tailSet(TreeType fromItem)
+	{
+		return () -> new InOrderIterator(ceilingNode(fromItem), null);
+	}
+	
+	/**
+	 * Returns the Strings of a tree that start with the given prefix, in sorted
+	 * order, lazily (see subSet). These are exactly the Strings from the prefix
+	 * (inclusive) up to the first String that sorts after every extension of the
+	 * prefix (exclusive), so a query costs O(tree height) plus the number of
+	 * matches.
+	 * 
+	 * @param tree   - the tree of Strings to be searched
+	 * @param prefix - the prefix sought
+	 * @return a view of the Strings starting with prefix
+	 */
+	public static Iterable<String> prefix(BinarySearchTree<String> tree, String prefix)
+	{
+		//Drop trailing characters that cannot be incremented, then increment the last
+		int end = prefix.length();
+		while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE)
+			end--;
+		
+		if (end == 0)
+			return tree.tailSet(prefix);
+		
+		String upperBound = prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+		return tree.subSet(prefix, upperBound);
+	}
+	
+	/**
+	 * Returns the node holding the smallest item greater than or equal to the given
+	 * item, or null if there is none.
+	 */
+	private BinaryNode<TreeType> ceilingNode(TreeType item)
+	{
+		BinaryNode<TreeType> temp = root;
+		BinaryNode<TreeType> best = null;
+		
+		while (temp != null)
+		{
+			int comparison = item.compareTo(temp.getData());
+			if (comparison == 0)
+				return temp;
+			
+			//temp is a candidate; anything closer must be in its left subtree
+			if (comparison < 0)
+			{
+				best = temp;
+				temp = temp.getLeftChild();
+			}
+			else
+				temp = temp.getRightChild();
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Walks the tree in sorted order from a starting node, through the parent
+	 * links, stopping before the first item that is not less than an optional
+	 * upper bound.
+	 */
+	private class InOrderIterator implements Iterator<TreeType>
+	{
+		private BinaryNode<TreeType> next;
+		
+		// exclusive upper bound, or null for none
+		private final TreeType upperBound;
+		
+		private final int expectedModCount = modCount;
+		
+		private InOrderIterator(BinaryNode<TreeType> start, TreeType upperBound)
+		{
+			this.upperBound = upperBound;
+			this.next = withinBound(start);
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return next != null;
+		}
+		
+		@Override
+		public TreeType next()
+		{
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+			if (next == null)
+				throw new NoSuchElementException();
+			
+			TreeType item = next.getData();
+			next = withinBound(next.nextInOrder());
+			return item;
+		}
+		
+		/**
+		 * Returns node, or null if it is past the upper bound.
+		 */
+		private BinaryNode<TreeType> withinBound(BinaryNode<TreeType> node)
+		{
+			if (node == null || upperBound == null || node.getData().compareTo(upperBound) < 0)
+				return node;
+			
+			return null;
+		}
+	}
+	
+	/**
+	 * Returns a new tree holding the items that are in this set, the other set, or
+	 * both. The two sets are walked in sorted order side by side and the result is
+	 * built perfectly balanced, with the same configuration as this tree.
+	 * 
+	 * COST: O(N + M), rather than O(M log(N + M)) for addAll
+	 * 
+	 * @param other - the set to be combined with this one (left unchanged)
+	 * @return the union of the two sets
+	 */
+	public BinarySearchTree<TreeType> union(SortedSet<TreeType> other)
+	{
+		return merge(other, true, true, true);
+	}
+	
+	/**
+	 * Returns a new tree holding the items that are in both this set and the other
+	 * set, found by walking both in sorted order side by side.
+	 * 
+	 * COST: O(N + M)
+	 * 
+	 * @param other - the set to be intersected with this one (left unchanged)
+	 * @return the intersection of the two sets
+	 */
+	public BinarySearchTree<TreeType> intersection(SortedSet<TreeType> other)
+	{
+		return merge(other, false, true, false);
+	}
+	
+	/**
+	 * Returns a new tree holding the items that are in this set but not in the
+	 * other set, found by walking both in sorted order side by side.
+	 * 
+	 * COST: O(N + M), rather than O(M log N) for a copy and removeAll
+	 * 
+	 * @param other - the set whose items are to be left out (left unchanged)
+	 * @return the difference of the two sets
+	 */
+	public BinarySearchTree<TreeType> difference(SortedSet<TreeType> other)
+	{
+		return merge(other, true, false, false);
+	}
+	
+	/**
+	 * Creates an empty tree with the same configuration as this one, to hold the
+	 * result of a set operation. Subclasses with their own kind of node override
+	 * this.
+	 */
+	protected BinarySearchTree<TreeType> newEmptyTree()
+	{
+		return new BinarySearchTree<TreeType>(selfBalancing);
+	}
+	
+	/**
+	 * Merges this set with another in sorted order, keeping the items found only in
+	 * this set, in both, or only in the other, as asked, and builds the kept items
+	 * into a new balanced tree.
+	 */
+	private BinarySearchTree<TreeType> merge(SortedSet<TreeType> other, boolean keepOnlyThis, boolean keepBoth,
+			boolean keepOnlyOther)
+	{
+		Iterator<TreeType> mine = iterator();
+		Iterator<TreeType> theirs = sortedIterator(other);
+		Object[] merged = new Object[size + (keepOnlyOther ? other.size() : 0)];
+		int count = 0;
+		
+		TreeType a = mine.hasNext() ? mine.next() : null;
+		TreeType b = theirs.hasNext() ? theirs.next() : null;
+		
+		while (a != null || b != null)
+		{
+			int comparison = a == null ? 1 : b == null ? -1 : a.compareTo(b);
+			
+			if (comparison < 0)
+			{
+				if (keepOnlyThis)
+					merged[count++] = a;
+				a = mine.hasNext() ? mine.next() : null;
+			}
+			else if (comparison > 0)
+			{
+				if (keepOnlyOther)
+					merged[count++] = b;
+				b = theirs.hasNext() ? theirs.next() : null;
+			}
+			else
+			{
+				if (keepBoth)
+					merged[count++] = a;
+				a = mine.hasNext() ? mine.next() : null;
+				b = theirs.hasNext() ? theirs.next() : null;
+			}
+			
+			//Nothing more can be kept once the side that supplies the kept items runs out
+			if (a == null && !keepOnlyOther || b == null && !keepOnlyThis && !keepOnlyOther)
+				break;
+		}
+		
+		BinarySearchTree<TreeType> result = newEmptyTree();
+		result.loadSorted(merged, count);
+		return result;
+	}
+	
+	/**
+	 * Returns an iterator over a SortedSet's items in sorted order: its own if it is
+	 * a BinarySearchTree, and otherwise one over toArrayList().
+	 */
+	private static <T extends Comparable<? super T>> Iterator<T> sortedIterator(SortedSet<T> set)
+	{
+		if (set instanceof BinarySearchTree)
+			return ((BinarySearchTree<T>) set).iterator();
+		
+		return set.toArrayList().iterator();
+	}
+	
+	/**
+	 * Get height of tree from the root (-1 for an empty tree), as cached in the root.
+	 * 
+	 * COST: O(1)
+	 * @return
+	 */
+	public int getHeight()
+	{
+		return heightOf(root);
+	}
+	
+	/**
+	 * Returns the item at the given position in sorted order (the k-th smallest
+	 * item, counting from 0), found using the cached subtree sizes.
+	 * 
+	 * COST: O(tree height)
+	 * 
+	 * @param k - the position of the item, from 0 to size() - 1
+	 * @return the item at position k
+	 * @throws IndexOutOfBoundsException if k is not a valid position
+	 */
+	public TreeType select(int k)
+	{
+		if (k < 0 || k >= size)
+			throw new IndexOutOfBoundsException("Position " + k + " out of range for size " + size);
+		
+		BinaryNode<TreeType> temp = root;
+		
+		while (true)
+		{
+			int leftSize = sizeOf(temp.getLeftChild());
+			
+			if (k < leftSize)
+				temp = temp.getLeftChild();
+			else if (k == leftSize)
+				return temp.getData();
+			else
+			{
+				k -= leftSize + 1;
+				temp = temp.getRightChild();
+			}
+		}
+	}
+	
+	/**
+	 * Returns the number of items in this tree that are smaller than the given item,
+	 * which is the item's position in sorted order if it is in the tree (and the
+	 * position it would take if it were added, otherwise).
+	 * 
+	 * COST: O(tree height)
+	 * 
+	 * @param item - the item whose rank is sought
+	 * @return the number of items smaller than item
+	 */
+	public int rank(TreeType item)
+	{
+		BinaryNode<TreeType> temp = root;
+		int rank = 0;
+		
+		while (temp != null)
+		{
+			int comparison = item.compareTo(temp.getData());
+			
+			if (comparison < 0)
+				temp = temp.getLeftChild();
+			else
+			{
+				rank += sizeOf(temp.getLeftChild());
+				if (comparison == 0)
+					return rank;
+				rank++;
+				temp = temp.getRightChild();
+			}
+		}
+		
+		return rank;
+	}
+	
+	/**
+	 * Starts counting calls to contains and the comparisons they make (see
+	 * getLookupCount() and getComparisonCount()). Until this is called, contains
+	 * pays only for a null check.
+	 */
+	public void enableStatistics()
+	{
+		if (statistics == null)
+			statistics = new LookupStatistics();
+	}
+	
+	/**
+	 * Stops counting lookups and comparisons, and discards the counts.
+	 */
+	public void disableStatistics()
+	{
+		statistics = null;
+	}
+	
+	/**
+	 * Sets the counts of lookups and comparisons back to zero, if statistics are
+	 * enabled. Lookups running meanwhile are counted either before or after the
+	 * reset.
+	 */
+	public void resetStatistics()
+	{
+		LookupStatistics statistics = this.statistics;
+		if (statistics != null)
+			statistics.reset();
+	}
+	
+	/**
+	 * Returns the number of calls to contains since statistics were enabled (0 if
+	 * they are not).
+	 */
+	public long getLookupCount()
+	{
+		LookupStatistics statistics = this.statistics;
+		return statistics == null ? 0 : statistics.lookups.sum();
+	}
+	
+	/**
+	 * Returns the number of comparisons made by contains since statistics were
+	 * enabled (0 if they are not).
+	 */
+	public long getComparisonCount()
+	{
+		LookupStatistics statistics = this.statistics;
+		return statistics == null ? 0 : statistics.comparisons.sum();
+	}
+	
+	/**
+	 * Counters for contains, safe to update from many threads at once.
+	 */
+	private static class LookupStatistics
+	{
+		private final LongAdder lookups = new LongAdder();
+		private final LongAdder comparisons = new LongAdder();
+		
+		private void reset()
+		{
+			lookups.reset();
+			comparisons.reset();
+		}
+	}
+	
+	/**
+	 * Returns true if this tree rebalances itself (AVL) on add and remove.
+	 */
+	public boolean isSelfBalancing()
+	{
+		return selfBalancing;
+	}
+
+}
@@ -0,0 +1,91 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Checks that a self-balancing BinarySearchTree stays logarithmically shallow
+ * when it is filled from an already sorted word list, the input that turns a
+ * plain tree into a linked list. Both ways of filling the tree are checked: add
+ * one word at a time (the AVL rebalancing) and addAll into an empty tree (the
+ * bulk load).
+ *
+ * Usage: java assign08.BinarySearchTreeHeightCheck [wordCount]
+ *
+ * The word count defaults to 500,000. The check prints the heights it found and
+ * throws an AssertionError (exiting with a nonzero status) if any of them is
+ * too large or the tree lost or misordered a word. It also checks that
+ * BinaryNode.height() works on nodes whose parent links are not set.
+ *
+ * @version October 18, 2026
+ */
+public class BinarySearchTreeHeightCheck {
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+		List<String> words = DictionaryBenchmark.generateWords(n, 42);
+		double log2 = Math.log(n) / Math.log(2);
+
+		//An AVL tree of n nodes is never taller than about 1.44 log2(n)
+		BinarySearchTree<String> added = new BinarySearchTree<String>(true);
+		for (String word : words)
+			added.add(word);
+		checkTree("AVL add, sorted input", added, words, (int) Math.floor(1.44 * log2));
+
+		//A bulk-loaded tree is perfectly balanced
+		BinarySearchTree<String> loaded = new BinarySearchTree<String>(true);
+		loaded.addAll(words);
+		checkTree("bulk addAll, sorted input", loaded, words, (int) Math.floor(log2));
+
+		//Removing every other word must keep the AVL tree balanced as well
+		List<String> remaining = new ArrayList<String>(n / 2);
+		for (int i = 0; i < n; i++) {
+			if (i % 2 == 0)
+				added.remove(words.get(i));
+			else
+				remaining.add(words.get(i));
+		}
+		checkTree("AVL after removing half", added, remaining,
+				(int) Math.floor(1.44 * Math.log(remaining.size()) / Math.log(2)));
+
+		//BinaryNode.height() and getSortedArrayList() follow child links only, so
+		//they also work on nodes built without parent links
+		BinaryNode<String> unlinked = new BinaryNode<String>("b", null, new BinaryNode<String>("a", null, null, null),
+				new BinaryNode<String>("d", null, new BinaryNode<String>("c", null), null));
+		check(unlinked.height() == 2, "unlinked nodes: height " + unlinked.height() + ", expected 2");
+		ArrayList<String> unlinkedWords = new ArrayList<String>();
+		unlinked.getSortedArrayList(unlinkedWords);
+		check(unlinkedWords.equals(List.of("a", "b", "c", "d")), "unlinked nodes: inorder " + unlinkedWords);
+		check(new BinaryNode<String>("a", null).height() == 0, "single node: height not 0");
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Checks that a tree holds exactly the given words, in order, and is no taller
+	 * than the given bound.
+	 *
+	 * @param name      - the label printed with the result
+	 * @param tree      - the tree to be checked
+	 * @param words     - the words the tree should hold, in sorted order
+	 * @param maxHeight - the largest height allowed
+	 */
+	private static void checkTree(String name, BinarySearchTree<String> tree, List<String> words, int maxHeight) {
+		int height = tree.getHeight();
+		System.out.printf("%-30s n=%d height=%d (at most %d)%n", name, tree.size(), height, maxHeight);
+
+		check(tree.size() == words.size(), name + ": size " + tree.size() + ", expected " + words.size());
+		check(height <= maxHeight, name + ": height " + height + " exceeds " + maxHeight);
+
+		Iterator<String> inOrder = tree.iterator();
+		for (String word : words)
+			check(inOrder.hasNext() && inOrder.next().equals(word), name + ": " + word + " missing or out of order");
+		check(!inOrder.hasNext(), name + ": extra words");
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
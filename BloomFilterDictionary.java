@@ -0,0 +1,387 @@
+package assign08;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Puts a Bloom filter in front of another WordDictionary, so that most words that
+ * are not in the dictionary are rejected without looking them up, which pays off
+ * when misses are common and the dictionary is slow to search (e.g., a
+ * BinarySearchTree, where a miss walks all the way to a leaf). Words that pass
+ * the filter, and every word that is in the dictionary, are looked up as usual,
+ * so answers are never wrong.
+ *
+ * The filter is blocked: a word's hash chooses one 512-bit block (8 longs, the
+ * size of a cache line), and all of the word's bits are set and tested within
+ * that block, so a test costs a single cache miss however many bits it checks.
+ * The filter has about 10 bits per word and sets 7 bits per word, for a false
+ * positive rate of roughly 1%.
+ *
+ * Adding a word sets its bits. A Bloom filter cannot clear bits, so removed words
+ * stay in the filter as stale entries (costing only false positives); the filter
+ * is rebuilt from the dictionary once stale entries make up a quarter of it, and
+ * also when the dictionary outgrows it (it is built with room for a quarter more
+ * words).
+ *
+ * Lookups may run concurrently with each other; changes are serialized.
+ *
+ * @version October 18, 2026
+ */
+public class BloomFilterDictionary implements WordDictionary {
+
+	private static final int BITS_PER_WORD = 10;
+
+	private static final int BITS_SET_PER_WORD = 7;
+
+	// longs per block: 8 * 64 = 512 bits
+	private static final int BLOCK_LONGS = 8;
+
+	private static final int MIN_BLOCKS = 16;
+
+	private final WordDictionary dictionary;
+
+	private volatile long[] bits;
+
+	private int blockCount;
+
+	// number of words whose bits have been set since the filter was built
+	private int entries;
+
+	// number of those entries that have since been removed from the dictionary
+	private int staleEntries;
+
+	private final LongAdder lookups = new LongAdder();
+
+	private final LongAdder filteredOut = new LongAdder();
+
+	private final LongAdder falsePositives = new LongAdder();
+
+	/**
+	 * Creates a filter in front of the given dictionary (which may already contain
+	 * words). From now on, the dictionary should be changed only through this
+	 * object, or the filter would wrongly reject words added to it directly.
+	 *
+	 * @param dictionary - the WordDictionary to look words up in
+	 */
+	public BloomFilterDictionary(WordDictionary dictionary) {
+		this.dictionary = dictionary;
+		build();
+	}
+
+	/**
+	 * @return the dictionary behind the filter
+	 */
+	public WordDictionary getDictionary() {
+		return dictionary;
+	}
+
+	@Override
+	public synchronized boolean add(String word) {
+		//Set the bits first, so that the word is never in the dictionary but not the filter
+		setBits(bits, hash(word));
+		boolean changed = dictionary.add(word);
+		if (changed) {
+			entries++;
+			rebuildIfNeeded();
+		}
+		return changed;
+	}
+
+	@Override
+	public synchronized boolean addAll(Collection<? extends String> words) {
+		long[] filter = bits;
+		for (String word : words)
+			setBits(filter, hash(word));
+
+		int before = dictionary.size();
+		boolean changed = dictionary.addAll(words);
+		entries += dictionary.size() - before;
+		rebuildIfNeeded();
+		return changed;
+	}
+
+	@Override
+	public boolean contains(String word) {
+		lookups.increment();
+		long[] filter = bits;
+		long hash = hash(word);
+
+		if (!mightContain(filter, hash)) {
+			filteredOut.increment();
+			return false;
+		}
+
+		boolean found = dictionary.contains(word);
+		if (!found)
+			falsePositives.increment();
+		return found;
+	}
+
+	@Override
+	public boolean contains(char[] chars, int offset, int length) {
+		lookups.increment();
+		long[] filter = bits;
+		long hash = hash(chars, offset, length);
+
+		if (!mightContain(filter, hash)) {
+			filteredOut.increment();
+			return false;
+		}
+
+		boolean found = dictionary.contains(chars, offset, length);
+		if (!found)
+			falsePositives.increment();
+		return found;
+	}
+
+	@Override
+	public synchronized boolean remove(String word) {
+		boolean changed = dictionary.remove(word);
+		if (changed) {
+			staleEntries++;
+			rebuildIfNeeded();
+		}
+		return changed;
+	}
+
+	@Override
+	public synchronized boolean removeAll(Collection<? extends String> words) {
+		int before = dictionary.size();
+		boolean changed = dictionary.removeAll(words);
+		staleEntries += before - dictionary.size();
+		rebuildIfNeeded();
+		return changed;
+	}
+
+	/**
+	 * Passes the change to the dictionary's own update (so it is as atomic as
+	 * the dictionary makes it), after setting the bits of the additions.
+	 */
+	@Override
+	public synchronized boolean update(Collection<? extends String> additions, Collection<? extends String> removals) {
+		if (additions != null) {
+			long[] filter = bits;
+			for (String word : additions)
+				setBits(filter, hash(word));
+		}
+
+		//The size change is additions less removals, so find the removals first
+		//(changes are serialized, so none can come in between) and derive the
+		//additions from it
+		StringHashSet removed = new StringHashSet();
+		if (removals != null) {
+			for (String word : removals) {
+				if (dictionary.contains(word))
+					removed.add(word);
+			}
+		}
+
+		int before = dictionary.size();
+		boolean changed = dictionary.update(additions, removals);
+		if (changed) {
+			entries += dictionary.size() - before + removed.size();
+			staleEntries += removed.size();
+			rebuildIfNeeded();
+		}
+		return changed;
+	}
+
+	@Override
+	public int size() {
+		return dictionary.size();
+	}
+
+	/**
+	 * Copies the dictionary behind the filter and puts a new filter in front of
+	 * the copy (or returns null if the dictionary cannot be copied).
+	 */
+	@Override
+	public BloomFilterDictionary copy() {
+		WordDictionary copy = dictionary.copy();
+		return copy == null ? null : new BloomFilterDictionary(copy);
+	}
+
+	@Override
+	public Iterator<String> iterator() {
+		return dictionary.iterator();
+	}
+
+	/**
+	 * Rebuilds the filter from the words of the dictionary, sized for a quarter more
+	 * words than it has and with no stale entries. Changes should be made through
+	 * this object, but if the dictionary was changed directly, call this before
+	 * the next lookup.
+	 */
+	public synchronized void rebuild() {
+		build();
+	}
+
+	/**
+	 * Builds the filter from the words of the dictionary (see rebuild). Private, so
+	 * that the constructor calls no overridable method; callers hold the lock or,
+	 * in the constructor, have not yet shared the object.
+	 */
+	private void build() {
+		int words = dictionary.size();
+		long capacity = words + words / 4;
+		blockCount = Math.max(MIN_BLOCKS, (int) Math.min(Integer.MAX_VALUE / BLOCK_LONGS,
+				(capacity * BITS_PER_WORD + 511) / 512));
+
+		long[] filter = new long[blockCount * BLOCK_LONGS];
+		for (String word : dictionary)
+			setBits(filter, hash(word));
+
+		entries = words;
+		staleEntries = 0;
+		bits = filter;
+	}
+
+	/**
+	 * Returns the number of lookups made.
+	 */
+	public long getLookupCount() {
+		return lookups.sum();
+	}
+
+	/**
+	 * Returns the number of lookups the filter answered without searching the
+	 * dictionary.
+	 */
+	public long getFilteredCount() {
+		return filteredOut.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that passed the filter but were not in the
+	 * dictionary.
+	 */
+	public long getFalsePositiveCount() {
+		return falsePositives.sum();
+	}
+
+	/**
+	 * Returns the fraction of lookups for words not in the dictionary that passed
+	 * the filter anyway (0 if there were none).
+	 */
+	public double getObservedFalsePositiveRate() {
+		long misses = filteredOut.sum() + falsePositives.sum();
+		return misses == 0 ? 0 : falsePositives.sum() / (double) misses;
+	}
+
+	/**
+	 * Returns the false positive rate predicted for the filter's current fill,
+	 * (1 - e^(-kn/m))^k for k bits set per word, n entries (stale ones included),
+	 * and m bits. Blocking makes the real rate slightly higher.
+	 */
+	public synchronized double getExpectedFalsePositiveRate() {
+		double bitCount = (double) blockCount * BLOCK_LONGS * 64;
+		return Math.pow(1 - Math.exp(-BITS_SET_PER_WORD * entries / bitCount), BITS_SET_PER_WORD);
+	}
+
+	/**
+	 * Sets the counts of lookups, filtered lookups, and false positives back to
+	 * zero.
+	 */
+	public void resetStatistics() {
+		lookups.reset();
+		filteredOut.reset();
+		falsePositives.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("words=%d filterBytes=%d lookups=%d filtered=%d falsePositives=%d "
+				+ "observedFPR=%.4f expectedFPR=%.4f", size(), (long) blockCount * BLOCK_LONGS * 8, getLookupCount(),
+				getFilteredCount(), getFalsePositiveCount(), getObservedFalsePositiveRate(),
+				getExpectedFalsePositiveRate());
+	}
+
+	/**
+	 * Rebuilds the filter once it holds more entries than it was sized for or
+	 * stale entries make up a quarter of it.
+	 */
+	private void rebuildIfNeeded() {
+		long capacity = (long) blockCount * 512 / BITS_PER_WORD;
+		if (entries > capacity || staleEntries > entries / 4)
+			build();
+	}
+
+	/**
+	 * Sets the bits of a hash in its block.
+	 */
+	private void setBits(long[] filter, long hash) {
+		int block = blockIndex(hash, filter.length / BLOCK_LONGS);
+		long probes = probeBits(hash);
+
+		for (int i = 0; i < BITS_SET_PER_WORD; i++) {
+			int bit = (int) probes & 511;
+			filter[block + (bit >>> 6)] |= 1L << bit;
+			probes >>>= 9;
+		}
+	}
+
+	/**
+	 * Returns false if a hash's bits are not all set in its block, i.e., if no word
+	 * with that hash was ever added.
+	 */
+	private static boolean mightContain(long[] filter, long hash) {
+		int block = blockIndex(hash, filter.length / BLOCK_LONGS);
+		long probes = probeBits(hash);
+
+		for (int i = 0; i < BITS_SET_PER_WORD; i++) {
+			int bit = (int) probes & 511;
+			if ((filter[block + (bit >>> 6)] & 1L << bit) == 0)
+				return false;
+			probes >>>= 9;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the index of the first long of a hash's block, chosen by the high 32
+	 * bits of the hash scaled to the number of blocks.
+	 */
+	private static int blockIndex(long hash, int blocks) {
+		return (int) (((hash >>> 32) * blocks) >>> 32) * BLOCK_LONGS;
+	}
+
+	/**
+	 * Returns 63 bits, independent of the block choice, from which the 7 bit
+	 * positions (9 bits each) in the block are taken.
+	 */
+	private static long probeBits(long hash) {
+		return mix(hash ^ 0x9E3779B97F4A7C15L);
+	}
+
+	private static long hash(String word) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < word.length(); i++)
+			hash = (hash ^ word.charAt(i)) * 0x100000001B3L;
+		return mix(hash);
+	}
+
+	/**
+	 * Returns the same hash as hash(String) for the characters.
+	 */
+	private static long hash(char[] chars, int offset, int length) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = offset; i < offset + length; i++)
+			hash = (hash ^ chars[i]) * 0x100000001B3L;
+		return mix(hash);
+	}
+
+	/**
+	 * Scrambles the bits of a 64-bit hash (the MurmurHash3 finalizer), since the
+	 * character loop alone leaves the high bits poorly mixed.
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,182 @@
+package assign08;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * A WordDictionary that may be read and changed by many threads at once. Lookups
+ * never block: they read an immutable snapshot of the words (a StringHashSet),
+ * published through a volatile field. Changes are made by copying the current
+ * snapshot, changing the copy, and publishing it, one writer at a time, so a
+ * lookup sees the dictionary either entirely before or entirely after a change.
+ * 
+ * Every change copies the whole table, so this suits dictionaries that are read
+ * far more often than they are changed (e.g., users adding custom words). Bulk
+ * changes should go through addAll, removeAll, or update, which copy only once.
+ * 
+ * @version October 18, 2026
+ */
+public class ConcurrentDictionary implements WordDictionary {
+
+	// the current snapshot; never changed after it is published
+	private volatile StringHashSet words;
+
+	/**
+	 * Creates an empty dictionary.
+	 */
+	public ConcurrentDictionary() {
+		words = new StringHashSet();
+	}
+
+	private ConcurrentDictionary(StringHashSet words) {
+		this.words = words;
+	}
+
+	/**
+	 * Creates a dictionary holding the given words.
+	 * 
+	 * @param words - the words to be added
+	 */
+	public ConcurrentDictionary(Collection<? extends String> words) {
+		StringHashSet initial = new StringHashSet(words.size());
+		initial.addAll(words);
+		this.words = initial;
+	}
+
+	/**
+	 * COST: O(N), since the table is copied (unless the word is already present)
+	 */
+	@Override
+	public synchronized boolean add(String word) {
+		if (words.contains(word))
+			return false;
+
+		StringHashSet copy = new StringHashSet(words);
+		copy.add(word);
+		words = copy;
+		return true;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends String> words) {
+		return update(words, null);
+	}
+
+	@Override
+	public boolean contains(String word) {
+		return words.contains(word);
+	}
+
+	@Override
+	public boolean contains(char[] chars, int offset, int length) {
+		return words.contains(chars, offset, length);
+	}
+
+	/**
+	 * COST: O(N), since the table is copied (unless the word is absent)
+	 */
+	@Override
+	public synchronized boolean remove(String word) {
+		if (!words.contains(word))
+			return false;
+
+		StringHashSet copy = new StringHashSet(words);
+		copy.remove(word);
+		words = copy;
+		return true;
+	}
+
+	@Override
+	public boolean removeAll(Collection<? extends String> words) {
+		return update(null, words);
+	}
+
+	/**
+	 * Removes and adds words as a single change: a concurrent lookup sees either
+	 * none or all of it.
+	 * 
+	 * @param additions - the words whose presence is ensured (may be null)
+	 * @param removals  - the words whose absence is ensured (may be null); these
+	 *                  are removed before the additions are made
+	 * @return true if this dictionary changed as a result of this method call
+	 */
+	@Override
+	public synchronized boolean update(Collection<? extends String> additions, Collection<? extends String> removals) {
+		StringHashSet copy = new StringHashSet(words);
+		boolean changed = false;
+
+		if (removals != null && copy.removeAll(removals))
+			changed = true;
+		if (additions != null && copy.addAll(additions))
+			changed = true;
+
+		if (changed)
+			words = copy;
+		return changed;
+	}
+
+	/**
+	 * Makes this dictionary hold exactly the given words, as a single change: a
+	 * concurrent lookup sees either none or all of it. The differences from the
+	 * current words are found while other changes are held off, so a word added or
+	 * removed just before this call is never left out of the result or the report.
+	 * 
+	 * COST: O(N + number of given words); the given words become the new table,
+	 * so nothing is copied
+	 * 
+	 * @param newWords - the words this dictionary should hold
+	 * @param added    - receives each word that was added, in the order of
+	 *                 newWords (may be null)
+	 * @param removed  - receives each word that was removed, in no particular
+	 *                 order (may be null)
+	 * @return true if this dictionary changed as a result of this method call
+	 */
+	public synchronized boolean updateTo(Collection<? extends String> newWords, Collection<? super String> added,
+			Collection<? super String> removed) {
+		StringHashSet current = words;
+		StringHashSet target = new StringHashSet(newWords.size());
+		int addedCount = 0;
+
+		for (String word : newWords) {
+			if (target.add(word) && !current.contains(word)) {
+				addedCount++;
+				if (added != null)
+					added.add(word);
+			}
+		}
+
+		//Every word of the target not added was already present, so the rest are gone
+		int removedCount = current.size() - (target.size() - addedCount);
+		if (removed != null && removedCount > 0)
+			for (String word : current)
+				if (!target.contains(word))
+					removed.add(word);
+
+		if (addedCount == 0 && removedCount == 0)
+			return false;
+
+		words = target;
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return words.size();
+	}
+
+	/**
+	 * COST: O(1), since the copy starts out sharing this dictionary's snapshot
+	 */
+	@Override
+	public ConcurrentDictionary copy() {
+		return new ConcurrentDictionary(words);
+	}
+
+	/**
+	 * Iterates over a snapshot of the words; later changes are not seen.
+	 */
+	@Override
+	public Iterator<String> iterator() {
+		return words.iterator();
+	}
+}
@@ -0,0 +1,174 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Checks that a ConcurrentDictionary can be read and changed by many threads at
+ * once. Reader threads look up base words (as Strings and as character ranges)
+ * and spell-check documents made of base words, while writer threads add,
+ * remove, and update words of their own through the dictionary and through a
+ * SpellChecker over it. Base words are never removed, so every reader must
+ * always find them, and the writers end in a known state, so the final size is
+ * known.
+ *
+ * Usage: java assign08.ConcurrentDictionaryStressCheck [seconds]
+ *
+ * The writers make a fixed number of rounds of changes; the readers keep reading
+ * until the writers are done, or for at least the given number of seconds
+ * (default 2). The check throws an AssertionError (exiting with a nonzero
+ * status) if a base word is ever missed, any thread throws, or the final size is
+ * wrong.
+ *
+ * @version October 18, 2026
+ */
+public class ConcurrentDictionaryStressCheck {
+
+	private static final int BASE_WORDS = 20_000;
+
+	private static final int READERS = 4;
+
+	private static final int WRITERS = 2;
+
+	private static final int WORDS_PER_WRITER = 100;
+
+	private static final int WRITER_ROUNDS = 10;
+
+	public static void main(String[] args) throws InterruptedException {
+		long minimumNanos = (long) ((args.length > 0 ? Double.parseDouble(args[0]) : 2) * 1e9);
+		List<String> base = DictionaryBenchmark.generateWords(BASE_WORDS, 42);
+		ConcurrentDictionary dictionary = new ConcurrentDictionary(base);
+		SpellChecker checker = new SpellChecker(dictionary);
+
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<Throwable>();
+		AtomicBoolean writing = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch writersDone = new CountDownLatch(WRITERS);
+		List<Thread> threads = new ArrayList<Thread>();
+		long[] reads = new long[READERS];
+
+		for (int r = 0; r < READERS; r++) {
+			int reader = r;
+			threads.add(new Thread(() -> {
+				Random random = new Random(reader);
+				StringBuilder document = new StringBuilder();
+				try {
+					start.await();
+					long startNanos = System.nanoTime();
+
+					while (writing.get() || System.nanoTime() - startNanos < minimumNanos) {
+						String word = base.get(random.nextInt(base.size()));
+						check(dictionary.contains(word), "base word " + word + " not found");
+						check(dictionary.contains(word.toCharArray(), 0, word.length()),
+								"base word " + word + " not found as characters");
+
+						if (++reads[reader] % 64 == 0) {
+							document.setLength(0);
+							for (int i = 0; i < 50; i++)
+								document.append(base.get(random.nextInt(base.size()))).append(' ');
+							List<String> misspelled = checker.spellCheck(document);
+							check(misspelled.isEmpty(), "base words reported misspelled: " + misspelled);
+						}
+					}
+				}
+				catch(Throwable e) {
+					failures.add(e);
+				}
+			}));
+		}
+
+		for (int w = 0; w < WRITERS; w++) {
+			List<String> own = writerWords(w);
+			threads.add(new Thread(() -> {
+				try {
+					start.await();
+					for (int round = 0; round < WRITER_ROUNDS; round++) {
+						for (String word : own)
+							checker.addToDictionary(word);
+						for (String word : own)
+							check(dictionary.contains(word), "added word " + word + " not found");
+						for (String word : own)
+							checker.removeFromDictionary(word);
+						for (String word : own)
+							check(!dictionary.contains(word), "removed word " + word + " still found");
+
+						dictionary.addAll(own);
+						dictionary.update(own.subList(0, WORDS_PER_WRITER / 2),
+								own.subList(WORDS_PER_WRITER / 2, WORDS_PER_WRITER));
+						dictionary.removeAll(own);
+					}
+
+					//Leave the first half of this writer's words in the dictionary
+					dictionary.update(own.subList(0, WORDS_PER_WRITER / 2), null);
+				}
+				catch(Throwable e) {
+					failures.add(e);
+				}
+				finally {
+					writersDone.countDown();
+				}
+			}));
+		}
+
+		for (Thread thread : threads)
+			thread.start();
+		start.countDown();
+		writersDone.await();
+		writing.set(false);
+		for (Thread thread : threads)
+			thread.join();
+
+		long totalReads = 0;
+		for (long count : reads)
+			totalReads += count;
+		System.out.printf("readers=%d writers=%d lookups=%d size=%d%n", READERS, WRITERS, totalReads,
+				dictionary.size());
+
+		if (!failures.isEmpty()) {
+			AssertionError error = new AssertionError(failures.size() + " thread(s) failed");
+			for (Throwable failure : failures)
+				error.addSuppressed(failure);
+			throw error;
+		}
+
+		int expectedSize = BASE_WORDS + WRITERS * (WORDS_PER_WRITER / 2);
+		check(dictionary.size() == expectedSize, "size " + dictionary.size() + ", expected " + expectedSize);
+		for (String word : base)
+			check(dictionary.contains(word), "base word " + word + " lost");
+		for (int w = 0; w < WRITERS; w++) {
+			List<String> own = writerWords(w);
+			for (int i = 0; i < WORDS_PER_WRITER; i++)
+				check(dictionary.contains(own.get(i)) == i < WORDS_PER_WRITER / 2,
+						"writer word " + own.get(i) + " in the wrong state");
+		}
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Returns the words a writer changes: letters only (so the tokenizer keeps
+	 * them whole), distinct between writers, and absent from the base list, whose
+	 * words never contain a 'q' followed by a 'z'.
+	 */
+	private static List<String> writerWords(int writer) {
+		List<String> words = new ArrayList<String>(WORDS_PER_WRITER);
+		for (int i = 0; i < WORDS_PER_WRITER; i++) {
+			StringBuilder word = new StringBuilder("qz").append((char) ('a' + writer));
+			for (int n = i; n > 0 || word.length() == 3; n /= 26)
+				word.append((char) ('a' + n % 26));
+			words.add(word.toString());
+		}
+
+		return words;
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
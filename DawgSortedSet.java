@@ -0,0 +1,721 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a sorted set of Strings as a minimized directed acyclic word graph
+ * (DAWG): a trie in which identical suffixes are shared as well as prefixes. A
+ * large dictionary therefore takes a small fraction of the memory of a
+ * BinarySearchTree, which needs a node object and a String per word.
+ *
+ * The graph is stored in flat primitive arrays. Node n is terminal (i.e., the
+ * path to it spells a word) if terminal[n] is set, and its outgoing edges are
+ * edgeLabel[i] and edgeTarget[i] for edgeStart[n] <= i < edgeStart[n + 1], sorted
+ * by label. Node 0 is the root.
+ *
+ * The graph is immutable once built, so every change rebuilds it from the sorted
+ * words: add and remove cost O(N), and bulk changes should go through addAll and
+ * removeAll, which rebuild only once. This set is meant for dictionaries that are
+ * loaded once and then mostly queried.
+ *
+ * @version October 18, 2026
+ */
+public class DawgSortedSet implements SortedSet<String>, Iterable<String> {
+
+	private int[] edgeStart;
+
+	private boolean[] terminal;
+
+	private char[] edgeLabel;
+
+	private int[] edgeTarget;
+
+	private int size;
+
+	// length of the longest word, so traversals can size their path buffers once
+	private int maxWordLength;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public DawgSortedSet() {
+		clear();
+	}
+
+	/**
+	 * Creates a set holding the given words.
+	 *
+	 * @param words - the words to be added
+	 */
+	public DawgSortedSet(Collection<String> words) {
+		this();
+		addAll(words);
+	}
+
+	/**
+	 * Ensures that this set contains the specified word.
+	 *
+	 * COST: O(N), since the graph is rebuilt
+	 */
+	@Override
+	public boolean add(String item) {
+		if (contains(item))
+			return false;
+
+		ArrayList<String> words = toArrayList();
+		int index = -(Collections.binarySearch(words, item) + 1);
+		words.add(index, item);
+		build(words);
+		return true;
+	}
+
+	/**
+	 * Ensures that this set contains all words in the specified collection,
+	 * rebuilding the graph once.
+	 *
+	 * COST: O(N + M log M) for a collection of M words
+	 */
+	@Override
+	public boolean addAll(Collection<? extends String> items) {
+		String[] incoming = sortedDistinct(items);
+		ArrayList<String> merged = new ArrayList<String>(size + incoming.length);
+		Iterator<String> current = iterator();
+		String next = current.hasNext() ? current.next() : null;
+		boolean changed = false;
+
+		//Merge the two sorted sequences, keeping one copy of words found in both
+		for (String word : incoming) {
+			while (next != null && next.compareTo(word) < 0) {
+				merged.add(next);
+				next = current.hasNext() ? current.next() : null;
+			}
+			if (next != null && next.equals(word))
+				continue;
+
+			merged.add(word);
+			changed = true;
+		}
+		while (next != null) {
+			merged.add(next);
+			next = current.hasNext() ? current.next() : null;
+		}
+
+		if (changed)
+			build(merged);
+		return changed;
+	}
+
+	/**
+	 * Removes all words from this set.
+	 */
+	@Override
+	public void clear() {
+		edgeStart = new int[] { 0, 0 };
+		terminal = new boolean[1];
+		edgeLabel = new char[0];
+		edgeTarget = new int[0];
+		size = 0;
+		maxWordLength = 0;
+	}
+
+	/**
+	 * Determines if the specified word is in this set by walking its characters
+	 * from the root.
+	 *
+	 * COST: O(word length * log(alphabet size))
+	 */
+	@Override
+	public boolean contains(String item) {
+		int node = 0;
+
+		for (int i = 0; i < item.length(); i++) {
+			node = child(node, item.charAt(i));
+			if (node < 0)
+				return false;
+		}
+
+		return terminal[node];
+	}
+
+	/**
+	 * Determines if the word made of the specified range of characters is in this
+	 * set, without creating a String for it.
+	 *
+	 * @param chars  - the array holding the word sought
+	 * @param offset - the index of the word's first character
+	 * @param length - the number of characters in the word
+	 * @return true if the word is in this set; otherwise, returns false
+	 */
+	public boolean contains(char[] chars, int offset, int length) {
+		int node = 0;
+
+		for (int i = offset; i < offset + length; i++) {
+			node = child(node, chars[i]);
+			if (node < 0)
+				return false;
+		}
+
+		return terminal[node];
+	}
+
+	@Override
+	public boolean containsAll(Collection<? extends String> items) {
+		for (String item : items)
+			if (!contains(item))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Returns the smallest word, found by following first edges until a word ends.
+	 *
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public String first() throws NoSuchElementException {
+		if (isEmpty())
+			throw new NoSuchElementException();
+
+		StringBuilder word = new StringBuilder();
+		int node = 0;
+		while (!terminal[node]) {
+			int edge = edgeStart[node];
+			word.append(edgeLabel[edge]);
+			node = edgeTarget[edge];
+		}
+
+		return word.toString();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the largest word, found by following last edges until there are none.
+	 *
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public String last() throws NoSuchElementException {
+		if (isEmpty())
+			throw new NoSuchElementException();
+
+		StringBuilder word = new StringBuilder();
+		int node = 0;
+		while (edgeStart[node + 1] > edgeStart[node]) {
+			int edge = edgeStart[node + 1] - 1;
+			word.append(edgeLabel[edge]);
+			node = edgeTarget[edge];
+		}
+
+		return word.toString();
+	}
+
+	/**
+	 * Ensures that this set does not contain the specified word.
+	 *
+	 * COST: O(N), since the graph is rebuilt
+	 */
+	@Override
+	public boolean remove(String item) {
+		if (!contains(item))
+			return false;
+
+		ArrayList<String> words = toArrayList();
+		words.remove(Collections.binarySearch(words, item));
+		build(words);
+		return true;
+	}
+
+	/**
+	 * Ensures that this set does not contain any of the words in the specified
+	 * collection, rebuilding the graph once.
+	 *
+	 * COST: O(N + M log M) for a collection of M words
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends String> items) {
+		String[] removed = sortedDistinct(items);
+		ArrayList<String> kept = new ArrayList<String>(size);
+		int r = 0;
+
+		//Merge-walk the current words against the sorted words to be removed
+		for (String word : this) {
+			while (r < removed.length && removed[r].compareTo(word) < 0)
+				r++;
+			if (r < removed.length && removed[r].equals(word))
+				continue;
+			kept.add(word);
+		}
+
+		if (kept.size() == size)
+			return false;
+
+		build(kept);
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns an ArrayList containing all of the words in this set, in sorted
+	 * order.
+	 */
+	@Override
+	public ArrayList<String> toArrayList() {
+		ArrayList<String> words = new ArrayList<String>(size);
+		for (String word : this)
+			words.add(word);
+
+		return words;
+	}
+
+	/**
+	 * Returns up to k words of this set that are closest to the given word, at an
+	 * edit distance of at most maxDistance. The distance counts insertions,
+	 * deletions, substitutions, and swaps of two adjacent characters (optimal
+	 * string alignment). Words are ordered by distance and then alphabetically.
+	 *
+	 * The graph is walked depth-first while one row of the edit-distance table is
+	 * filled in per character of the path; a branch is abandoned as soon as every
+	 * entry of its row exceeds the current bound, and the bound shrinks once k words
+	 * closer than it have been found. Since suffixes are shared, a walk visits far
+	 * fewer distinct nodes than a scan of the word list would visit characters.
+	 *
+	 * @param word        - the (possibly misspelled) word
+	 * @param maxDistance - the largest edit distance allowed
+	 * @param k           - the maximum number of words returned
+	 * @return the closest words, nearest first
+	 * @throws IllegalArgumentException if maxDistance or k is negative
+	 */
+	public List<String> closest(String word, int maxDistance, int k) {
+		checkClosestArguments(maxDistance, k);
+		int m = word.length();
+
+		//No word is further away than the longer of the two words is long
+		maxDistance = Math.min(maxDistance, Math.max(m, maxWordLength));
+		ArrayList<ArrayList<String>> byDistance = new ArrayList<ArrayList<String>>();
+		for (int d = 0; d <= maxDistance; d++)
+			byDistance.add(new ArrayList<String>());
+
+		// rows[d] is the edit-distance row for the first d characters of the path
+		int[][] rows = new int[maxWordLength + 1][m + 1];
+		char[] path = new char[maxWordLength];
+		int[] nodeStack = new int[maxWordLength + 1];
+		int[] edgeStack = new int[maxWordLength + 1];
+		int bound = k > 0 ? maxDistance : -1;
+
+		for (int j = 0; j <= m; j++)
+			rows[0][j] = j;
+		if (terminal[0] && m <= bound)
+			bound = record(byDistance, "", m, k);
+
+		int depth = 0;
+		edgeStack[0] = edgeStart[0];
+
+		while (depth >= 0 && bound >= 0) {
+			int node = nodeStack[depth];
+			int edge = edgeStack[depth];
+
+			if (edge == edgeStart[node + 1]) {
+				depth--;
+				continue;
+			}
+			edgeStack[depth]++;
+
+			char c = edgeLabel[edge];
+			int[] previous = rows[depth];
+			int[] current = rows[depth + 1];
+			current[0] = depth + 1;
+			int rowMinimum = current[0];
+
+			for (int j = 1; j <= m; j++) {
+				int cost = word.charAt(j - 1) == c ? 0 : 1;
+				int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+
+				//Swap of two adjacent characters
+				if (depth > 0 && j > 1 && c == word.charAt(j - 2) && path[depth - 1] == word.charAt(j - 1))
+					distance = Math.min(distance, rows[depth - 1][j - 2] + 1);
+
+				current[j] = distance;
+				rowMinimum = Math.min(rowMinimum, distance);
+			}
+
+			//Row minimums never decrease further down, so nothing below can qualify
+			if (rowMinimum > bound)
+				continue;
+
+			path[depth] = c;
+			int target = edgeTarget[edge];
+			if (terminal[target] && current[m] <= bound)
+				bound = record(byDistance, new String(path, 0, depth + 1), current[m], k);
+
+			depth++;
+			nodeStack[depth] = target;
+			edgeStack[depth] = edgeStart[target];
+		}
+
+		ArrayList<String> closest = new ArrayList<String>();
+		for (ArrayList<String> words : byDistance)
+			for (String w : words)
+				if (closest.size() < k)
+					closest.add(w);
+
+		return closest;
+	}
+
+	/**
+	 * Throws an IllegalArgumentException if the maximum distance or number of
+	 * words for closest is negative.
+	 *
+	 * @param maxDistance - the largest edit distance allowed
+	 * @param k           - the maximum number of words returned
+	 */
+	static void checkClosestArguments(int maxDistance, int k) {
+		if (maxDistance < 0)
+			throw new IllegalArgumentException("Maximum edit distance must not be negative, but was " + maxDistance);
+		if (k < 0)
+			throw new IllegalArgumentException("Number of words must not be negative, but was " + k);
+	}
+
+	/**
+	 * Returns the edit distance between two words as closest measures it
+	 * (insertions, deletions, substitutions, and swaps of two adjacent
+	 * characters).
+	 *
+	 * @param a - one word
+	 * @param b - the other word
+	 * @return the edit distance between them
+	 */
+	static int distance(String a, String b) {
+		int m = b.length();
+		int[] beforePrevious = new int[m + 1];
+		int[] previous = new int[m + 1];
+		int[] current = new int[m + 1];
+
+		for (int j = 0; j <= m; j++)
+			previous[j] = j;
+
+		for (int i = 1; i <= a.length(); i++) {
+			char c = a.charAt(i - 1);
+			current[0] = i;
+
+			for (int j = 1; j <= m; j++) {
+				int cost = b.charAt(j - 1) == c ? 0 : 1;
+				int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+
+				//Swap of two adjacent characters
+				if (i > 1 && j > 1 && c == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1))
+					distance = Math.min(distance, beforePrevious[j - 2] + 1);
+
+				current[j] = distance;
+			}
+
+			int[] recycled = beforePrevious;
+			beforePrevious = previous;
+			previous = current;
+			current = recycled;
+		}
+
+		return previous[m];
+	}
+
+	/**
+	 * Records a word found at the given distance and returns the new search bound:
+	 * once k words at distance d or less are known, later words (which come
+	 * alphabetically after them) are only useful if they are closer than d.
+	 */
+	private static int record(ArrayList<ArrayList<String>> byDistance, String word, int distance, int k) {
+		byDistance.get(distance).add(word);
+
+		int found = 0;
+		for (int d = 0; d < byDistance.size(); d++) {
+			found += byDistance.get(d).size();
+			if (found >= k)
+				return d - 1;
+		}
+
+		return byDistance.size() - 1;
+	}
+
+	/**
+	 * Returns the number of nodes in the graph (including the root).
+	 */
+	public int nodeCount() {
+		return terminal.length;
+	}
+
+	/**
+	 * Returns the number of edges in the graph.
+	 */
+	public int edgeCount() {
+		return edgeLabel.length;
+	}
+
+	/**
+	 * Iterates over the words in sorted order with a depth-first walk of the graph.
+	 * Words are produced lazily, one at a time.
+	 */
+	@Override
+	public Iterator<String> iterator() {
+		return new Iterator<String>() {
+
+			// path[0..depth) spells the characters leading to node stack[depth]
+			private final char[] path = new char[maxWordLength];
+
+			private final int[] nodeStack = new int[maxWordLength + 1];
+
+			// next edge to try out of each node on the stack
+			private final int[] edgeStack = new int[maxWordLength + 1];
+
+			private int depth = 0;
+
+			private int remaining = size;
+
+			{
+				edgeStack[0] = edgeStart[0];
+			}
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public String next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				//The root is only terminal when the set contains the empty string
+				if (remaining == size && terminal[0]) {
+					remaining--;
+					return "";
+				}
+
+				while (true) {
+					int node = nodeStack[depth];
+					int edge = edgeStack[depth];
+
+					//Out of edges here: back up to the parent
+					if (edge == edgeStart[node + 1]) {
+						depth--;
+						continue;
+					}
+
+					edgeStack[depth]++;
+					path[depth] = edgeLabel[edge];
+					depth++;
+					nodeStack[depth] = edgeTarget[edge];
+					edgeStack[depth] = edgeStart[edgeTarget[edge]];
+
+					//A word ends here; it sorts before every word that extends it
+					if (terminal[edgeTarget[edge]]) {
+						remaining--;
+						return new String(path, 0, depth);
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns the node reached from node along the edge labeled c, or -1 if there
+	 * is no such edge. Edges are sorted by label, so this is a binary search.
+	 */
+	private int child(int node, char c) {
+		int low = edgeStart[node];
+		int high = edgeStart[node + 1] - 1;
+
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			char label = edgeLabel[middle];
+			if (label < c)
+				low = middle + 1;
+			else if (label > c)
+				high = middle - 1;
+			else
+				return edgeTarget[middle];
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the distinct items of the given collection as a sorted array.
+	 */
+	private static String[] sortedDistinct(Collection<? extends String> items) {
+		String[] sorted = items.toArray(new String[0]);
+		Arrays.sort(sorted);
+
+		int distinct = 0;
+		for (int i = 0; i < sorted.length; i++)
+			if (distinct == 0 || !sorted[distinct - 1].equals(sorted[i]))
+				sorted[distinct++] = sorted[i];
+
+		return Arrays.copyOf(sorted, distinct);
+	}
+
+	/**
+	 * Replaces the graph with a minimized graph of the given words, which must be
+	 * sorted and distinct. Uses the incremental construction of Daciuk et al.: each
+	 * word is appended as a new branch, and once a branch can no longer be extended
+	 * (the next word leaves it), its nodes are replaced by equivalent nodes already
+	 * in the graph wherever possible.
+	 */
+	private void build(Collection<String> sortedWords) {
+		HashMap<BuildNode, BuildNode> register = new HashMap<BuildNode, BuildNode>();
+		ArrayList<BuildNode> unchecked = new ArrayList<BuildNode>();
+		BuildNode root = new BuildNode();
+		String previous = "";
+		int longest = 0;
+
+		unchecked.add(root);
+		for (String word : sortedWords) {
+			int common = 0;
+			int limit = Math.min(word.length(), previous.length());
+			while (common < limit && word.charAt(common) == previous.charAt(common))
+				common++;
+
+			minimize(unchecked, register, common);
+
+			BuildNode node = unchecked.get(unchecked.size() - 1);
+			for (int i = common; i < word.length(); i++) {
+				BuildNode next = new BuildNode();
+				node.addEdge(word.charAt(i), next);
+				unchecked.add(next);
+				node = next;
+			}
+			node.terminal = true;
+
+			previous = word;
+			longest = Math.max(longest, word.length());
+		}
+		minimize(unchecked, register, 0);
+
+		freeze(root);
+		size = sortedWords.size();
+		maxWordLength = longest;
+	}
+
+	/**
+	 * Replaces the nodes unchecked[depth + 1 ..] (deepest first) with equivalent
+	 * registered nodes, registering the ones that have no equivalent yet, and pops
+	 * them off the unchecked path.
+	 */
+	private static void minimize(ArrayList<BuildNode> unchecked, HashMap<BuildNode, BuildNode> register, int depth) {
+		for (int i = unchecked.size() - 1; i > depth; i--) {
+			BuildNode child = unchecked.remove(i);
+			BuildNode existing = register.get(child);
+			if (existing != null)
+				unchecked.get(i - 1).targets[unchecked.get(i - 1).edgeCount - 1] = existing;
+			else
+				register.put(child, child);
+		}
+	}
+
+	/**
+	 * Numbers the nodes reachable from root breadth-first and copies them into the
+	 * flat arrays.
+	 */
+	private void freeze(BuildNode root) {
+		ArrayList<BuildNode> order = new ArrayList<BuildNode>();
+		int edges = 0;
+
+		root.id = 0;
+		order.add(root);
+		for (int n = 0; n < order.size(); n++) {
+			BuildNode node = order.get(n);
+			edges += node.edgeCount;
+			for (int e = 0; e < node.edgeCount; e++) {
+				if (node.targets[e].id < 0) {
+					node.targets[e].id = order.size();
+					order.add(node.targets[e]);
+				}
+			}
+		}
+
+		edgeStart = new int[order.size() + 1];
+		terminal = new boolean[order.size()];
+		edgeLabel = new char[edges];
+		edgeTarget = new int[edges];
+
+		int edge = 0;
+		for (int n = 0; n < order.size(); n++) {
+			BuildNode node = order.get(n);
+			edgeStart[n] = edge;
+			terminal[n] = node.terminal;
+			for (int e = 0; e < node.edgeCount; e++) {
+				edgeLabel[edge] = node.labels[e];
+				edgeTarget[edge] = node.targets[e].id;
+				edge++;
+			}
+		}
+		edgeStart[order.size()] = edge;
+	}
+
+	/**
+	 * A mutable graph node used only while building. Two nodes are equal when they
+	 * have the same finality and the same edges to the very same (already
+	 * minimized) targets, which is exactly when they accept the same suffixes.
+	 */
+	private static class BuildNode {
+
+		private boolean terminal;
+
+		private char[] labels = new char[2];
+
+		private BuildNode[] targets = new BuildNode[2];
+
+		private int edgeCount;
+
+		private int id = -1;
+
+		private void addEdge(char label, BuildNode target) {
+			if (edgeCount == labels.length) {
+				labels = Arrays.copyOf(labels, edgeCount * 2);
+				targets = Arrays.copyOf(targets, edgeCount * 2);
+			}
+			labels[edgeCount] = label;
+			targets[edgeCount] = target;
+			edgeCount++;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof BuildNode))
+				return false;
+
+			BuildNode that = (BuildNode) other;
+			if (terminal != that.terminal || edgeCount != that.edgeCount)
+				return false;
+
+			for (int e = 0; e < edgeCount; e++)
+				if (labels[e] != that.labels[e] || targets[e] != that.targets[e])
+					return false;
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = terminal ? 1 : 0;
+			for (int e = 0; e < edgeCount; e++)
+				hash = 31 * (31 * hash + labels[e]) + System.identityHashCode(targets[e]);
+
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,678 @@
+package assign08;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Timing and memory experiments for the dictionary structures and SpellChecker.
+ *
+ * Usage: java assign08.DictionaryBenchmark [section ...]
+ *
+ * The sections are memory, build, lookup, churn, toArrayList, spellCheck,
+ * tokenizer, parallel, suggest, snapshot, and arrayTree; all of them run if none
+ * are named.
+ * The dictionary is the word list (one word per line) named by the system
+ * property "words", or else a synthetic English-like list of 400,000 words.
+ *
+ * Timed sections run each experiment for a few warm-up rounds and then report
+ * the best of several measured rounds, along with the bytes allocated per
+ * operation by the measuring thread. This is a quick smoke run in one JVM, so
+ * JIT and GC noise carry over between experiments; for numbers to compare, use
+ * the JMH benchmarks in jmh/ (build, lookup, churn, toArrayList, and
+ * spellCheck), which fork a JVM per benchmark:
+ *
+ *   mvn -B -Pjmh package
+ *   java -jar target/benchmarks.jar -prof gc
+ *
+ * @version October 18, 2026
+ */
+public class DictionaryBenchmark {
+
+	private static final String[] SYLLABLES = { "an", "ber", "cal", "de", "ex", "for", "gran", "hu", "in", "jo",
+			"ka", "lo", "mis", "no", "or", "pre", "qua", "re", "sta", "tri", "un", "ver", "wa", "yo", "zen" };
+
+	private static final String[] SUFFIXES = { "", "s", "ed", "ing", "er", "ers", "ly", "ness", "tion", "able" };
+
+	private static final int WARMUP_ROUNDS = 3;
+
+	private static final int MEASURED_ROUNDS = 5;
+
+	private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	// results are folded into this so that the JIT cannot discard the work
+	private static volatile long sink;
+
+	public static void main(String[] args) throws IOException {
+		String wordFile = System.getProperty("words");
+		List<String> words = wordFile != null ? readWords(new File(wordFile)) : generateWords(400_000, 42);
+		List<String> sections = Arrays.asList(args);
+		System.out.println("Dictionary: " + words.size() + " words");
+
+		if (sections.isEmpty() || sections.contains("memory"))
+			memoryPerWord(words);
+		if (sections.isEmpty() || sections.contains("build"))
+			buildTime(words);
+		if (sections.isEmpty() || sections.contains("lookup"))
+			lookupLatency(words);
+		if (sections.isEmpty() || sections.contains("churn"))
+			removalChurn(words);
+		if (sections.isEmpty() || sections.contains("toArrayList"))
+			toArrayListTime(words);
+		if (sections.isEmpty() || sections.contains("spellCheck"))
+			spellCheckThroughput(words);
+		if (sections.isEmpty() || sections.contains("tokenizer"))
+			tokenizerThroughput(generateDocument(words, 32_000_000, 7));
+		if (sections.isEmpty() || sections.contains("parallel"))
+			parallelScaling(words, generateDocument(words, 128_000_000, 8));
+		if (sections.isEmpty() || sections.contains("suggest"))
+			suggestionLatency(words);
+		if (sections.isEmpty() || sections.contains("snapshot"))
+			snapshotStartup(words);
+		if (sections.isEmpty() || sections.contains("arrayTree"))
+			arrayTreeComparison(words);
+	}
+
+	/**
+	 * Reports the time and allocation per word to build each dictionary structure
+	 * from the sorted word list and from a shuffled copy of it.
+	 */
+	public static void buildTime(List<String> words) {
+		System.out.println("\n-- Dictionary build (per word) --");
+		List<String> shuffled = new ArrayList<String>(words);
+		Collections.shuffle(shuffled, new Random(3));
+		int n = words.size();
+
+		for (String order : new String[] { "sorted", "shuffled" }) {
+			List<String> input = order.equals("sorted") ? words : shuffled;
+
+			measure("BinarySearchTree addAll (bulk), " + order, n, () -> {
+				BinarySearchTree<String> tree = new BinarySearchTree<String>();
+				tree.addAll(input);
+				sink += tree.size();
+			});
+			measure("BinarySearchTree AVL add, " + order, n, () -> {
+				BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+				for (String word : input)
+					tree.add(word);
+				sink += tree.size();
+			});
+			measure("StringBinarySearchTree AVL add, " + order, n, () -> {
+				BinarySearchTree<String> tree = new StringBinarySearchTree(true);
+				for (String word : input)
+					tree.add(word);
+				sink += tree.size();
+			});
+			//A plain tree built one word at a time from sorted input is a linked list
+			if (order.equals("shuffled"))
+				measure("BinarySearchTree plain add, " + order, n, () -> {
+					BinarySearchTree<String> tree = new BinarySearchTree<String>();
+					for (String word : input)
+						tree.add(word);
+					sink += tree.size();
+				});
+			measure("StringHashSet addAll, " + order, n, () -> {
+				StringHashSet set = new StringHashSet();
+				set.addAll(input);
+				sink += set.size();
+			});
+			measure("DawgSortedSet addAll, " + order, n, () -> sink += new DawgSortedSet(input).size());
+		}
+	}
+
+	/**
+	 * Compares ArrayBinarySearchTree with the pointer-based BinarySearchTree: heap
+	 * per word, build time (bulk and one word at a time), and contains() latency,
+	 * with the array tree freshly bulk-built, after churn, and compacted.
+	 */
+	public static void arrayTreeComparison(List<String> words) {
+		System.out.println("\n-- ArrayBinarySearchTree vs BinarySearchTree --");
+		int n = words.size();
+		List<String> shuffled = new ArrayList<String>(words);
+		Collections.shuffle(shuffled, new Random(3));
+
+		reportMemory("BinarySearchTree", n, () -> {
+			BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+			tree.addAll(copyOf(words));
+			return tree;
+		});
+		reportMemory("ArrayBinarySearchTree", n, () -> {
+			ArrayBinarySearchTree<String> tree = new ArrayBinarySearchTree<String>(true);
+			tree.addAll(copyOf(words));
+			return tree;
+		});
+
+		measure("BinarySearchTree addAll (bulk)", n, () -> {
+			BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+			tree.addAll(words);
+			sink += tree.size();
+		});
+		measure("ArrayBinarySearchTree addAll (bulk)", n, () -> {
+			ArrayBinarySearchTree<String> tree = new ArrayBinarySearchTree<String>(true);
+			tree.addAll(words);
+			sink += tree.size();
+		});
+		measure("BinarySearchTree AVL add, shuffled", n, () -> {
+			BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+			for (String word : shuffled)
+				tree.add(word);
+			sink += tree.size();
+		});
+		measure("ArrayBinarySearchTree AVL add, shuffled", n, () -> {
+			ArrayBinarySearchTree<String> tree = new ArrayBinarySearchTree<String>(true);
+			for (String word : shuffled)
+				tree.add(word);
+			sink += tree.size();
+		});
+
+		Random random = new Random(5);
+		String[] queries = new String[1_000_000];
+		for (int i = 0; i < queries.length; i++)
+			queries[i] = words.get(random.nextInt(n));
+
+		BinarySearchTree<String> pointerTree = new BinarySearchTree<String>(true);
+		pointerTree.addAll(words);
+		ArrayBinarySearchTree<String> arrayTree = new ArrayBinarySearchTree<String>(true);
+		arrayTree.addAll(words);
+
+		measure("BinarySearchTree hit", queries.length, () -> sink += countContained(pointerTree::contains, queries));
+		measure("ArrayBinarySearchTree hit, bulk-built", queries.length,
+				() -> sink += countContained(arrayTree::contains, queries));
+
+		//Remove and re-add a tenth of the words, which scatters them over free slots
+		List<String> changed = shuffled.subList(0, n / 10);
+		arrayTree.removeAll(changed);
+		arrayTree.addAll(changed);
+		measure("ArrayBinarySearchTree hit, after churn", queries.length,
+				() -> sink += countContained(arrayTree::contains, queries));
+
+		arrayTree.compact();
+		measure("ArrayBinarySearchTree hit, compacted", queries.length,
+				() -> sink += countContained(arrayTree::contains, queries));
+	}
+
+	/**
+	 * Reports contains() latency for words that are in the dictionary (hits) and
+	 * words that are not (misses), looked up in random order.
+	 */
+	public static void lookupLatency(List<String> words) {
+		System.out.println("\n-- contains (per lookup) --");
+		Random random = new Random(5);
+		int lookups = 1_000_000;
+		String[] hits = new String[lookups];
+		String[] misses = new String[lookups];
+		for (int i = 0; i < lookups; i++) {
+			hits[i] = words.get(random.nextInt(words.size()));
+			misses[i] = misspell(hits[i], 1, random) + "q";
+		}
+
+		BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+		tree.addAll(words);
+		BinarySearchTree<String> prefixKeyTree = new StringBinarySearchTree(true);
+		prefixKeyTree.addAll(words);
+		BloomFilterDictionary filteredTree = new BloomFilterDictionary(new SortedSetDictionary(tree));
+		StringHashSet hashSet = new StringHashSet();
+		hashSet.addAll(words);
+		DawgSortedSet dawg = new DawgSortedSet(words);
+
+		for (String kind : new String[] { "hit", "miss" }) {
+			String[] queries = kind.equals("hit") ? hits : misses;
+			measure("BinarySearchTree " + kind, lookups, () -> sink += countContained(tree::contains, queries));
+			measure("StringBinarySearchTree " + kind, lookups,
+					() -> sink += countContained(prefixKeyTree::contains, queries));
+			measure("BloomFilterDictionary(BinarySearchTree) " + kind, lookups,
+					() -> sink += countContained(filteredTree::contains, queries));
+			measure("StringHashSet " + kind, lookups, () -> sink += countContained(hashSet::contains, queries));
+			measure("DawgSortedSet " + kind, lookups, () -> sink += countContained(dawg::contains, queries));
+		}
+	}
+
+	/**
+	 * Reports the cost of removing a random tenth of the dictionary and adding it
+	 * back, per word removed or added.
+	 */
+	public static void removalChurn(List<String> words) {
+		System.out.println("\n-- removeAll + addAll churn (per word changed) --");
+		List<String> churn = new ArrayList<String>(words);
+		Collections.shuffle(churn, new Random(9));
+		List<String> changed = churn.subList(0, words.size() / 10);
+
+		BinarySearchTree<String> balanced = new BinarySearchTree<String>(true);
+		balanced.addAll(words);
+		BinarySearchTree<String> plain = new BinarySearchTree<String>();
+		for (String word : churn)
+			plain.add(word);
+		StringHashSet hashSet = new StringHashSet();
+		hashSet.addAll(words);
+
+		measure("BinarySearchTree AVL", 2 * changed.size(), () -> {
+			balanced.removeAll(changed);
+			balanced.addAll(changed);
+			sink += balanced.size();
+		});
+		measure("BinarySearchTree plain", 2 * changed.size(), () -> {
+			plain.removeAll(changed);
+			plain.addAll(changed);
+			sink += plain.size();
+		});
+		measure("StringHashSet", 2 * changed.size(), () -> {
+			hashSet.removeAll(changed);
+			hashSet.addAll(changed);
+			sink += hashSet.size();
+		});
+	}
+
+	/**
+	 * Reports the cost per word of listing each sorted structure's contents.
+	 */
+	public static void toArrayListTime(List<String> words) {
+		System.out.println("\n-- toArrayList (per word) --");
+		BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+		tree.addAll(words);
+		DawgSortedSet dawg = new DawgSortedSet(words);
+
+		measure("BinarySearchTree toArrayList", words.size(), () -> sink += tree.toArrayList().size());
+		measure("BinarySearchTree iterator", words.size(), () -> {
+			for (String word : tree)
+				sink += word.length();
+		});
+		measure("DawgSortedSet toArrayList", words.size(), () -> sink += dawg.toArrayList().size());
+	}
+
+	/**
+	 * Reports end-to-end spellCheck(File) throughput on generated documents of
+	 * several sizes, with the default hash dictionary and with a tree dictionary.
+	 * The operation counted is one byte of document.
+	 */
+	public static void spellCheckThroughput(List<String> words) throws IOException {
+		System.out.println("\n-- spellCheck(File) (per byte) --");
+		SpellChecker hashChecker = new SpellChecker(words);
+		BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+		tree.addAll(words);
+		SpellChecker treeChecker = new SpellChecker(new SortedSetDictionary(tree));
+
+		for (int megabytes : new int[] { 1, 16, 64 }) {
+			File document = writeTemporaryFile(generateDocument(words, megabytes * 1_000_000, megabytes));
+			int bytes = (int) document.length();
+
+			long nanos = measure(megabytes + " MB, StringHashSet", bytes,
+					() -> sink += hashChecker.spellCheck(document).size());
+			System.out.printf("%45s %10.1f MB/s%n", "", bytes / (nanos / 1e3));
+			nanos = measure(megabytes + " MB, BinarySearchTree", bytes,
+					() -> sink += treeChecker.spellCheck(document).size());
+			System.out.printf("%45s %10.1f MB/s%n", "", bytes / (nanos / 1e3));
+			document.delete();
+		}
+	}
+
+	/**
+	 * Runs body for a few warm-up rounds and then for several measured rounds, and
+	 * prints the best time and the allocation per operation.
+	 *
+	 * @param name       - the label of the experiment
+	 * @param operations - the number of operations one run of body performs
+	 * @param body       - the experiment
+	 * @return the best time of one run, in nanoseconds
+	 */
+	static long measure(String name, int operations, Runnable body) {
+		for (int round = 0; round < WARMUP_ROUNDS; round++)
+			body.run();
+
+		long bestNanos = Long.MAX_VALUE;
+		long bestBytes = Long.MAX_VALUE;
+		long thread = Thread.currentThread().getId();
+
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+			long start = System.nanoTime();
+			body.run();
+			long nanos = System.nanoTime() - start;
+			long allocated = THREADS.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+			bestNanos = Math.min(bestNanos, nanos);
+			bestBytes = Math.min(bestBytes, allocated);
+		}
+
+		System.out.printf("%-45s %10.1f ns/op %10.1f B/op%n", name, bestNanos / (double) operations,
+				bestBytes / (double) operations);
+		return bestNanos;
+	}
+
+	/**
+	 * Returns how many of the queries the lookup accepts.
+	 */
+	private static int countContained(Predicate<String> lookup, String[] queries) {
+		int found = 0;
+		for (String query : queries)
+			if (lookup.test(query))
+				found++;
+
+		return found;
+	}
+
+	/**
+	 * Reports the heap retained per word by a self-balancing BinarySearchTree (with
+	 * and without prefix keys) and by a DawgSortedSet holding the same words.
+	 */
+	public static void memoryPerWord(List<String> words) {
+		System.out.println("\n-- Memory per word --");
+		reportMemory("BinarySearchTree", words.size(), () -> {
+			BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+			tree.addAll(copyOf(words));
+			return tree;
+		});
+		reportMemory("StringBinarySearchTree", words.size(), () -> {
+			BinarySearchTree<String> tree = new StringBinarySearchTree(true);
+			tree.addAll(copyOf(words));
+			return tree;
+		});
+		reportMemory("DawgSortedSet", words.size(), () -> new DawgSortedSet(copyOf(words)));
+	}
+
+	/**
+	 * Measures the heap retained by the object the builder returns. The builder is
+	 * handed its own copies of the words so that Strings held by the caller are not
+	 * credited to the structure.
+	 */
+	private static void reportMemory(String name, int wordCount, Supplier<Object> builder) {
+		long before = usedHeap();
+		Object structure = builder.get();
+		long after = usedHeap();
+		System.out.printf("%-20s %10.1f bytes/word%n", name, (after - before) / (double) wordCount);
+		Reference.reachabilityFence(structure);
+	}
+
+	/**
+	 * Compares the throughput of WordTokenizer with the regular-expression Scanner
+	 * that SpellChecker used to divide documents into words. (That both produce
+	 * the same words is checked by TokenizerAgreementCheck.)
+	 */
+	public static void tokenizerThroughput(String document) throws IOException {
+		System.out.println("\n-- Tokenizer throughput --");
+		double megabytes = document.length() / 1e6;
+
+		for (int round = 0; round < 5; round++) {
+			long start = System.nanoTime();
+			Scanner scanner = new Scanner(new StringReader(document));
+			scanner.useDelimiter("\\s*[^a-zA-Z]\\s*");
+			long scannerWords = 0;
+			long scannerLetters = 0;
+			while (scanner.hasNext()) {
+				String s = scanner.next();
+				if (!s.equals("")) {
+					scannerLetters += s.toLowerCase().length();
+					scannerWords++;
+				}
+			}
+			sink += scannerLetters;
+			long scannerNanos = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			WordTokenizer tokenizer = new WordTokenizer(new StringReader(document));
+			long tokenizerWords = 0;
+			long tokenizerLetters = 0;
+			String word;
+			while ((word = tokenizer.next()) != null) {
+				tokenizerLetters += word.length();
+				tokenizerWords++;
+			}
+			sink += tokenizerLetters;
+			long tokenizerNanos = System.nanoTime() - start;
+
+			System.out.printf("round %d: Scanner %8.1f MB/s (%d words)   WordTokenizer %8.1f MB/s (%d words)%n",
+					round, megabytes / (scannerNanos / 1e9), scannerWords, megabytes / (tokenizerNanos / 1e9),
+					tokenizerWords);
+		}
+	}
+
+	/**
+	 * Reports spellCheck throughput on a document file for 1 up to the number of
+	 * available processors threads, and checks that every thread count finds the
+	 * same misspelled words as the sequential check.
+	 */
+	public static void parallelScaling(List<String> words, String document) throws IOException {
+		System.out.println("\n-- Parallel spellCheck scaling --");
+		File documentFile = writeTemporaryFile(document);
+		SpellChecker checker = new SpellChecker(words);
+		double megabytes = documentFile.length() / 1e6;
+		List<String> expected = checker.spellCheck(documentFile);
+
+		int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads = threads < processors ? Math.min(threads * 2, processors) : threads + 1) {
+			long best = Long.MAX_VALUE;
+			for (int round = 0; round < 3; round++) {
+				long start = System.nanoTime();
+				List<String> misspelled = checker.spellCheck(documentFile, threads);
+				best = Math.min(best, System.nanoTime() - start);
+				if (!misspelled.equals(expected))
+					throw new IllegalStateException("Parallel check disagrees with sequential check");
+			}
+			System.out.printf("%3d threads %8.1f MB/s%n", threads, megabytes / (best / 1e9));
+		}
+
+		documentFile.delete();
+	}
+
+	/**
+	 * Reports the latency of SpellChecker.suggest on typos made by applying one or
+	 * two random edits (insertion, deletion, substitution, or adjacent swap) to
+	 * dictionary words, and how often the intended word is among the suggestions.
+	 */
+	public static void suggestionLatency(List<String> words) {
+		System.out.println("\n-- Suggestion latency --");
+		SpellChecker checker = new SpellChecker(words);
+		Random random = new Random(11);
+		int typoCount = 20_000;
+		String[] intended = new String[typoCount];
+		String[] typos = new String[typoCount];
+
+		for (int i = 0; i < typoCount; i++) {
+			intended[i] = words.get(random.nextInt(words.size()));
+			typos[i] = misspell(intended[i], 1 + random.nextInt(2), random);
+		}
+
+		long start = System.nanoTime();
+		checker.suggest("warmup", 2, 5);
+		System.out.printf("index build      %8.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+		for (int maxDistance = 1; maxDistance <= 2; maxDistance++) {
+			for (int round = 0; round < 3; round++) {
+				int found = 0;
+				start = System.nanoTime();
+				for (int i = 0; i < typoCount; i++)
+					if (checker.suggest(typos[i], maxDistance, 5).contains(intended[i]))
+						found++;
+				long nanos = System.nanoTime() - start;
+
+				System.out.printf("maxDistance %d    %8.1f us/word   intended word found %5.1f%%%n", maxDistance,
+						nanos / 1e3 / typoCount, 100.0 * found / typoCount);
+			}
+		}
+	}
+
+	/**
+	 * Compares the time to build a SpellChecker from a text word list with the time
+	 * to build one from a binary snapshot of the same words.
+	 */
+	public static void snapshotStartup(List<String> words) throws IOException {
+		System.out.println("\n-- Dictionary startup --");
+		File textFile = writeTemporaryFile(String.join("\n", words));
+		File snapshotFile = File.createTempFile("spellcheck", ".snapshot");
+		snapshotFile.deleteOnExit();
+		new SpellChecker(words).saveSnapshot(snapshotFile);
+
+		System.out.printf("text file     %8.1f MB   snapshot %8.1f MB%n", textFile.length() / 1e6,
+				snapshotFile.length() / 1e6);
+
+		for (int round = 0; round < 5; round++) {
+			long start = System.nanoTime();
+			SpellChecker fromText = new SpellChecker(textFile);
+			long textNanos = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			SpellChecker fromSnapshot = new SpellChecker(DictionarySnapshot.read(snapshotFile));
+			long snapshotNanos = System.nanoTime() - start;
+
+			System.out.printf("round %d: text %8.1f ms   snapshot %8.1f ms%n", round, textNanos / 1e6,
+					snapshotNanos / 1e6);
+			Reference.reachabilityFence(fromText);
+			Reference.reachabilityFence(fromSnapshot);
+		}
+
+		textFile.delete();
+		snapshotFile.delete();
+	}
+
+	/**
+	 * Applies the given number of random single-character edits to a word.
+	 */
+	static String misspell(String word, int edits, Random random) {
+		StringBuilder typo = new StringBuilder(word);
+
+		for (int e = 0; e < edits; e++) {
+			int position = random.nextInt(typo.length() + 1);
+			char letter = (char) ('a' + random.nextInt(26));
+			int kind = random.nextInt(4);
+
+			if (kind == 0 || typo.length() < 2)
+				typo.insert(position, letter);
+			else if (position == typo.length())
+				typo.deleteCharAt(position - 1);
+			else if (kind == 1)
+				typo.deleteCharAt(position);
+			else if (kind == 2)
+				typo.setCharAt(position, letter);
+			else if (position + 1 < typo.length()) {
+				char swapped = typo.charAt(position);
+				typo.setCharAt(position, typo.charAt(position + 1));
+				typo.setCharAt(position + 1, swapped);
+			}
+		}
+
+		return typo.toString();
+	}
+
+	/**
+	 * Writes text to a temporary file (in UTF-8) that is deleted on exit.
+	 */
+	static File writeTemporaryFile(String text) throws IOException {
+		File file = File.createTempFile("spellcheck", ".txt");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), text);
+		return file;
+	}
+
+	/**
+	 * Returns the heap in use after encouraging a full collection.
+	 */
+	static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 4; i++) {
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Returns new String objects with the same contents as the given words.
+	 */
+	static List<String> copyOf(List<String> words) {
+		List<String> copy = new ArrayList<String>(words.size());
+		for (String word : words)
+			copy.add(new String(word.toCharArray()));
+
+		return copy;
+	}
+
+	/**
+	 * Reads a word list with one word per line, lowercased and sorted.
+	 */
+	static List<String> readWords(File file) throws IOException {
+		List<String> words = new ArrayList<String>();
+		for (String line : Files.readAllLines(file.toPath()))
+			if (!line.isBlank())
+				words.add(line.trim().toLowerCase());
+
+		Collections.sort(words);
+		return words;
+	}
+
+	/**
+	 * Generates a document of roughly the given number of characters made of
+	 * dictionary words (about one in ten misspelled), with mixed case, punctuation,
+	 * digits, and the occasional non-ASCII character.
+	 */
+	static String generateDocument(List<String> words, int length, long seed) {
+		Random random = new Random(seed);
+		StringBuilder document = new StringBuilder(length + 64);
+
+		while (document.length() < length) {
+			String word = words.get(random.nextInt(words.size()));
+			if (random.nextInt(10) == 0)
+				word = word + SYLLABLES[random.nextInt(SYLLABLES.length)] + "q";
+			if (random.nextInt(8) == 0)
+				word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+			document.append(word);
+
+			int separator = random.nextInt(40);
+			if (separator == 0)
+				document.append(". ");
+			else if (separator == 1)
+				document.append(", ");
+			else if (separator == 2)
+				document.append(" ").append(random.nextInt(1000)).append(' ');
+			else if (separator == 3)
+				document.append("\u00e9 ");
+			else if (separator == 4)
+				document.append('\n');
+			else
+				document.append(' ');
+		}
+
+		return document.toString();
+	}
+
+	/**
+	 * Generates a sorted list of distinct English-like words built from syllables
+	 * and common suffixes, so that prefixes and suffixes are shared the way they are
+	 * in a real dictionary.
+	 */
+	static List<String> generateWords(int count, long seed) {
+		Random random = new Random(seed);
+		StringHashSet distinct = new StringHashSet(count);
+
+		while (distinct.size() < count) {
+			StringBuilder word = new StringBuilder();
+			int syllables = 1 + random.nextInt(4);
+			for (int i = 0; i < syllables; i++)
+				word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+			word.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+			distinct.add(word.toString());
+		}
+
+		List<String> words = new ArrayList<String>(count);
+		for (String word : distinct)
+			words.add(word);
+
+		Collections.sort(words);
+		return words;
+	}
+}
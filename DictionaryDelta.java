@@ -0,0 +1,74 @@
+package assign08;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of reloading a SpellChecker's dictionary from a file: the words
+ * that were added and removed to bring the dictionary up to date, and how long
+ * the reload took.
+ *
+ * @version October 18, 2026
+ */
+public class DictionaryDelta {
+
+	private final List<String> addedWords;
+
+	private final List<String> removedWords;
+
+	private final long nanos;
+
+	/**
+	 * Creates a delta.
+	 *
+	 * @param addedWords   - the words added, in sorted order
+	 * @param removedWords - the words removed, in sorted order
+	 * @param nanos        - the duration of the reload, in nanoseconds
+	 */
+	DictionaryDelta(List<String> addedWords, List<String> removedWords, long nanos) {
+		this.addedWords = Collections.unmodifiableList(addedWords);
+		this.removedWords = Collections.unmodifiableList(removedWords);
+		this.nanos = nanos;
+	}
+
+	/**
+	 * @return the words added to the dictionary, in sorted order
+	 */
+	public List<String> getAddedWords() {
+		return addedWords;
+	}
+
+	/**
+	 * @return the words removed from the dictionary, in sorted order
+	 */
+	public List<String> getRemovedWords() {
+		return removedWords;
+	}
+
+	/**
+	 * @return the number of words added plus the number removed
+	 */
+	public int size() {
+		return addedWords.size() + removedWords.size();
+	}
+
+	/**
+	 * @return true if the dictionary was already up to date
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * @return the time the reload took (reading, comparing, and applying), in
+	 *         nanoseconds
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("+%d -%d words in %.1f ms", addedWords.size(), removedWords.size(), nanos / 1e6);
+	}
+}
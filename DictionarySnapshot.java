@@ -0,0 +1,238 @@
+package assign08;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes dictionaries in a compact binary format, so that a dictionary
+ * can be loaded without dividing a text file into words and sorting them.
+ *
+ * A snapshot file is a 24-byte header followed by the payload:
+ *
+ *   magic "SPDS" (4 bytes), format version (2), unused (2), word count (4),
+ *   payload length (8), CRC-32 of the first 20 header bytes and the payload (4)
+ *
+ * The payload holds the words in sorted order, each written as the number of
+ * leading characters it shares with the word before it and the UTF-8 bytes of
+ * the rest (both lengths as variable-length integers). Sorted dictionaries share
+ * long prefixes, so this is usually well under half the size of the word list.
+ *
+ * The checksum covers the header fields as well as the payload, and the word
+ * count is checked against the payload length before anything is allocated, so
+ * a damaged header is reported as an IOException rather than trusted.
+ *
+ * @version October 18, 2026
+ */
+public class DictionarySnapshot {
+
+	private static final int MAGIC = 0x53504453;
+
+	private static final short VERSION = 2;
+
+	private static final int HEADER_SIZE = 24;
+
+	// the header bytes before the checksum field, which the checksum covers
+	private static final int CHECKED_HEADER_SIZE = 20;
+
+	// every word takes at least two payload bytes: its shared and rest lengths
+	private static final int MIN_WORD_BYTES = 2;
+
+	/**
+	 * Writes the given words to a snapshot file, replacing the file if it exists.
+	 *
+	 * @param words - the words to be written (in any order, without duplicates)
+	 * @param file  - the File to be written
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Iterable<String> words, File file) throws IOException {
+		ArrayList<String> sorted = new ArrayList<String>();
+		for (String word : words)
+			sorted.add(word);
+		sorted.sort(null);
+
+		byte[] payload = new byte[1024];
+		int length = 0;
+		String previous = "";
+
+		for (String word : sorted) {
+			int shared = 0;
+			int limit = Math.min(word.length(), previous.length());
+			while (shared < limit && word.charAt(shared) == previous.charAt(shared))
+				shared++;
+
+			//Never split a surrogate pair, so that the rest is valid UTF-16 on its own
+			if (shared > 0 && Character.isHighSurrogate(word.charAt(shared - 1)))
+				shared--;
+
+			byte[] rest = word.substring(shared).getBytes(StandardCharsets.UTF_8);
+			if (length + rest.length + 10 > payload.length)
+				payload = Arrays.copyOf(payload, Math.max(payload.length * 2, length + rest.length + 10));
+
+			length = putVarint(payload, length, shared);
+			length = putVarint(payload, length, rest.length);
+			System.arraycopy(rest, 0, payload, length, rest.length);
+			length += rest.length;
+			previous = word;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(sorted.size()).putLong(length);
+
+		CRC32 checksum = new CRC32();
+		checksum.update(header.array(), 0, CHECKED_HEADER_SIZE);
+		checksum.update(payload, 0, length);
+		header.putInt((int) checksum.getValue());
+
+		try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+			output.write(header.array());
+			output.write(payload, 0, length);
+		}
+	}
+
+	/**
+	 * Reads the words of a snapshot file. The file is memory-mapped and its
+	 * checksum verified before the words are decoded.
+	 *
+	 * @param file - the File to be read
+	 * @return the words of the snapshot, in sorted order
+	 * @throws IOException if the file cannot be read or is not a valid snapshot
+	 */
+	public static List<String> read(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE)
+				throw new IOException("File " + file + " is not a dictionary snapshot.");
+
+			MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (snapshot.getInt(0) != MAGIC)
+				throw new IOException("File " + file + " is not a dictionary snapshot.");
+			if (snapshot.getShort(4) != VERSION)
+				throw new IOException("File " + file + " has unsupported snapshot version " + snapshot.getShort(4) + ".");
+
+			int wordCount = snapshot.getInt(8);
+			long payloadLength = snapshot.getLong(12);
+			int expectedChecksum = snapshot.getInt(20);
+
+			if (payloadLength != channel.size() - HEADER_SIZE)
+				throw new IOException("File " + file + " is truncated.");
+
+			ByteBuffer payload = snapshot.slice(HEADER_SIZE, (int) payloadLength);
+			CRC32 checksum = new CRC32();
+			checksum.update(snapshot.slice(0, CHECKED_HEADER_SIZE));
+			checksum.update(payload.duplicate());
+			if ((int) checksum.getValue() != expectedChecksum)
+				throw new IOException("File " + file + " is corrupt (checksum mismatch).");
+
+			//Bound the count by what the payload can hold before sizing the word list
+			if (wordCount < 0 || wordCount > payloadLength / MIN_WORD_BYTES)
+				throw new IOException("File " + file + " is corrupt (word count " + wordCount + ").");
+
+			return decode(payload, wordCount, file);
+		}
+	}
+
+	/**
+	 * Decodes the prefix-compressed words of a payload.
+	 */
+	private static List<String> decode(ByteBuffer payload, int wordCount, File file) throws IOException {
+		ArrayList<String> words = new ArrayList<String>(wordCount);
+		char[] word = new char[64];
+		int wordLength = 0;
+		int position = 0;
+
+		try {
+			for (int w = 0; w < wordCount; w++) {
+				long value = getVarint(payload, position);
+				int shared = (int) value;
+				position = (int) (value >>> 32);
+
+				value = getVarint(payload, position);
+				int restBytes = (int) value;
+				position = (int) (value >>> 32);
+
+				if (shared < 0 || shared > wordLength || restBytes < 0)
+					throw new IOException("File " + file + " is corrupt.");
+
+				//ASCII is by far the most common case and needs no decoder
+				int needed = shared + restBytes;
+				if (needed > word.length)
+					word = Arrays.copyOf(word, Math.max(needed, word.length * 2));
+
+				boolean ascii = true;
+				for (int i = 0; i < restBytes && ascii; i++)
+					ascii = payload.get(position + i) >= 0;
+
+				if (ascii) {
+					for (int i = 0; i < restBytes; i++)
+						word[shared + i] = (char) payload.get(position + i);
+					wordLength = needed;
+				}
+				else {
+					byte[] bytes = new byte[restBytes];
+					payload.get(position, bytes);
+					String rest = new String(bytes, StandardCharsets.UTF_8);
+					rest.getChars(0, rest.length(), word, shared);
+					wordLength = shared + rest.length();
+				}
+
+				position += restBytes;
+				words.add(new String(word, 0, wordLength));
+			}
+		}
+		catch(IndexOutOfBoundsException e) {
+			throw new IOException("File " + file + " is corrupt.");
+		}
+
+		if (position != payload.limit())
+			throw new IOException("File " + file + " is corrupt.");
+
+		return words;
+	}
+
+	/**
+	 * Writes value as a variable-length integer (7 bits per byte, low bits first,
+	 * high bit set on every byte but the last).
+	 *
+	 * @return the position just past the written bytes
+	 */
+	private static int putVarint(byte[] bytes, int position, int value) {
+		while ((value & ~0x7F) != 0) {
+			bytes[position++] = (byte) (value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+		bytes[position++] = (byte) value;
+		return position;
+	}
+
+	/**
+	 * Reads a variable-length integer.
+	 *
+	 * @return the value in the low 32 bits and the position just past it in the
+	 *         high 32 bits
+	 */
+	private static long getVarint(ByteBuffer bytes, int position) {
+		int value = 0;
+		int shift = 0;
+		byte b;
+
+		do {
+			b = bytes.get(position++);
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+
+		return (long) position << 32 | (value & 0xFFFFFFFFL);
+	}
+}
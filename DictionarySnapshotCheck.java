@@ -0,0 +1,165 @@
+package assign08;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Checks that DictionarySnapshot reads back exactly the words it wrote, and that
+ * it rejects damaged files with an IOException instead of returning wrong words
+ * or running out of memory.
+ *
+ * Usage: java assign08.DictionarySnapshotCheck [rounds]
+ *
+ * Each round (default 20) writes a random word set, including empty, non-ASCII,
+ * and supplementary-plane words and words sharing long prefixes, and compares
+ * what is read back with a TreeSet of the same words. The damaged files are a
+ * flipped bit in every header byte and in sampled payload bytes, a truncated
+ * file, and a header whose word count is forged to Integer.MAX_VALUE - 8 with a
+ * matching checksum. The check throws an AssertionError (exiting with a nonzero
+ * status) on the first failure.
+ *
+ * @version October 18, 2026
+ */
+public class DictionarySnapshotCheck {
+
+	private static final int HEADER_SIZE = 24;
+
+	private static final int CHECKED_HEADER_SIZE = 20;
+
+	public static void main(String[] args) throws IOException {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+		Random random = new Random(42);
+		File file = File.createTempFile("snapshot-check", ".snap");
+		file.deleteOnExit();
+
+		try {
+			checkRoundTrip(new TreeSet<String>(), file);
+			checkRoundTrip(new TreeSet<String>(List.of("")), file);
+			for (int round = 0; round < rounds; round++)
+				checkRoundTrip(randomWords(random, 1 + random.nextInt(2000)), file);
+			System.out.printf("round trips: %d%n", rounds + 2);
+
+			TreeSet<String> words = randomWords(random, 500);
+			DictionarySnapshot.write(words, file);
+			byte[] good = Files.readAllBytes(file.toPath());
+
+			int rejected = 0;
+			for (int i = 0; i < good.length; i += i < HEADER_SIZE ? 1 : 1 + good.length / 200) {
+				byte[] bad = good.clone();
+				bad[i] ^= 1 << random.nextInt(8);
+				checkRejected(bad, file, "bit flipped in byte " + i);
+				rejected++;
+			}
+
+			checkRejected(Arrays.copyOf(good, good.length - 1), file, "last byte cut off");
+			checkRejected(Arrays.copyOf(good, HEADER_SIZE - 1), file, "header cut off");
+			checkRejected(forgeWordCount(good, Integer.MAX_VALUE - 8), file, "forged word count");
+			checkRejected(forgeWordCount(good, words.size() + 1), file, "word count off by one");
+			checkRejected(forgeWordCount(good, -1), file, "negative word count");
+			System.out.printf("damaged files rejected: %d%n", rejected + 5);
+		}
+		finally {
+			file.delete();
+		}
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Writes the words to the file, reads them back, and checks that they are the
+	 * same words in the same (sorted) order.
+	 */
+	private static void checkRoundTrip(TreeSet<String> words, File file) throws IOException {
+		//Write them shuffled, as write() must sort them itself
+		List<String> shuffled = new ArrayList<String>(words);
+		Collections.shuffle(shuffled, new Random(words.size()));
+		DictionarySnapshot.write(shuffled, file);
+
+		List<String> read = DictionarySnapshot.read(file);
+		check(read.equals(new ArrayList<String>(words)), "round trip of " + words.size() + " words differs");
+	}
+
+	/**
+	 * Writes the given bytes to the file and checks that reading it throws an
+	 * IOException.
+	 */
+	private static void checkRejected(byte[] bytes, File file, String damage) throws IOException {
+		Files.write(file.toPath(), bytes);
+		try {
+			DictionarySnapshot.read(file);
+		}
+		catch(IOException e) {
+			return;
+		}
+		catch(OutOfMemoryError e) {
+			throw new AssertionError(damage + ": ran out of memory instead of rejecting the file", e);
+		}
+		throw new AssertionError(damage + ": file was accepted");
+	}
+
+	/**
+	 * Returns a copy of a snapshot with its word count replaced and its checksum
+	 * recomputed, as a deliberately forged (or very unlucky) header would be.
+	 */
+	private static byte[] forgeWordCount(byte[] good, int wordCount) {
+		byte[] forged = good.clone();
+		ByteBuffer header = ByteBuffer.wrap(forged);
+		header.putInt(8, wordCount);
+
+		CRC32 checksum = new CRC32();
+		checksum.update(forged, 0, CHECKED_HEADER_SIZE);
+		checksum.update(forged, HEADER_SIZE, forged.length - HEADER_SIZE);
+		header.putInt(CHECKED_HEADER_SIZE, (int) checksum.getValue());
+		return forged;
+	}
+
+	/**
+	 * Returns a random set of words, many of them sharing prefixes, some with
+	 * non-ASCII and supplementary-plane characters.
+	 */
+	private static TreeSet<String> randomWords(Random random, int count) {
+		String[] alphabets = { "abcdefghijklmnopqrstuvwxyz", "aeiouéèüßñ", "абвгдежз", "😀😁x" };
+		TreeSet<String> words = new TreeSet<String>();
+		String previous = "";
+
+		while (words.size() < count) {
+			StringBuilder word = new StringBuilder();
+			if (!previous.isEmpty() && random.nextBoolean()) {
+				int shared = random.nextInt(previous.length() + 1);
+				//Keep surrogate pairs whole
+				if (shared > 0 && Character.isHighSurrogate(previous.charAt(shared - 1)))
+					shared--;
+				word.append(previous, 0, shared);
+			}
+
+			String alphabet = alphabets[random.nextInt(10) < 7 ? 0 : random.nextInt(alphabets.length)];
+			int length = random.nextInt(12);
+			for (int i = 0; i < length; i++) {
+				int at = random.nextInt(alphabet.length());
+				//Keep surrogate pairs whole
+				if (Character.isLowSurrogate(alphabet.charAt(at)))
+					at--;
+				word.appendCodePoint(alphabet.codePointAt(at));
+			}
+
+			previous = word.toString();
+			words.add(previous);
+		}
+
+		return words;
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
@@ -0,0 +1,109 @@
+package assign08;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of durations in nanoseconds with power-of-two buckets:
+ * bucket b counts durations d with 2^(b-1) <= d < 2^b (bucket 0 counts zero).
+ * Recording is a few atomic additions, so it is cheap enough for hot paths, and
+ * percentiles are accurate to within a factor of two.
+ *
+ * @version October 18, 2026
+ */
+public class LatencyHistogram {
+
+	private final AtomicLongArray buckets = new AtomicLongArray(64);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder total = new LongAdder();
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Records one duration.
+	 *
+	 * @param nanos - the duration in nanoseconds (negative values count as zero)
+	 */
+	public void record(long nanos) {
+		if (nanos < 0)
+			nanos = 0;
+
+		buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(nanos));
+		count.increment();
+		total.add(nanos);
+		max.accumulate(nanos);
+	}
+
+	/**
+	 * Returns the number of durations recorded.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the sum of all durations recorded, in nanoseconds.
+	 */
+	public long getTotalNanos() {
+		return total.sum();
+	}
+
+	/**
+	 * Returns the mean duration in nanoseconds (0 if nothing was recorded).
+	 */
+	public double getMeanNanos() {
+		long n = count.sum();
+		return n == 0 ? 0 : total.sum() / (double) n;
+	}
+
+	/**
+	 * Returns the longest duration recorded, in nanoseconds.
+	 */
+	public long getMaxNanos() {
+		return max.get();
+	}
+
+	/**
+	 * Returns an upper bound (the top of its bucket) on the duration below which
+	 * the given fraction of recorded durations fall.
+	 *
+	 * @param fraction - the fraction, from 0 to 1 (e.g., 0.99 for the 99th
+	 *                 percentile)
+	 * @return the percentile in nanoseconds, or 0 if nothing was recorded
+	 */
+	public long getPercentileNanos(double fraction) {
+		long n = 0;
+		for (int b = 0; b < 64; b++)
+			n += buckets.get(b);
+
+		long wanted = (long) Math.ceil(fraction * n);
+		long seen = 0;
+		for (int b = 0; b < 64; b++) {
+			seen += buckets.get(b);
+			if (seen >= wanted && seen > 0)
+				return b == 0 ? 0 : Math.min(1L << b, max.get());
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Forgets every duration recorded so far.
+	 */
+	public void reset() {
+		for (int b = 0; b < 64; b++)
+			buckets.set(b, 0);
+		count.reset();
+		total.reset();
+		max.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d mean=%.0fns p50=%dns p99=%dns max=%dns", getCount(), getMeanNanos(),
+				getPercentileNanos(0.5), getPercentileNanos(0.99), getMaxNanos());
+	}
+}
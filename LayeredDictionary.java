@@ -0,0 +1,253 @@
+package assign08;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary made of a large base dictionary shared by many users and a small
+ * overlay of one user's changes: the words the user added that the base lacks,
+ * and tombstones for the base words the user removed. The base is never changed,
+ * so any number of LayeredDictionaries (e.g., one per tenant, each in its own
+ * SpellChecker) can share it, and each costs memory only in proportion to its
+ * own changes. (SpellChecker.suggest, however, indexes the whole dictionary, base
+ * included, so each SpellChecker that makes suggestions pays for its own index.)
+ *
+ * Lookups consult the overlay first and fall through to the base. The base must
+ * not change once it is shared; sharedBase makes a read-only copy suitable for
+ * this. The base may be read by many threads at once, but (as with StringHashSet)
+ * each overlay must not be changed while it is being read.
+ *
+ * @version October 18, 2026
+ */
+public class LayeredDictionary implements WordDictionary {
+
+	private final WordDictionary base;
+
+	// words in this dictionary but not in the base
+	private final StringHashSet additions;
+
+	// words in the base but not in this dictionary
+	private final StringHashSet removals;
+
+	/**
+	 * Creates a dictionary holding exactly the words of the base, until it is
+	 * changed.
+	 *
+	 * @param base - the shared dictionary, which must no longer be changed
+	 */
+	public LayeredDictionary(WordDictionary base) {
+		this(base, new StringHashSet(), new StringHashSet());
+	}
+
+	private LayeredDictionary(WordDictionary base, StringHashSet additions, StringHashSet removals) {
+		this.base = base;
+		this.additions = additions;
+		this.removals = removals;
+	}
+
+	/**
+	 * Returns a read-only dictionary of the given words, to be shared as the base
+	 * of many LayeredDictionaries. Attempts to change it throw
+	 * UnsupportedOperationException.
+	 *
+	 * @param words - the words of the base
+	 * @return the base dictionary
+	 */
+	public static WordDictionary sharedBase(Collection<? extends String> words) {
+		StringHashSet copy = new StringHashSet(words.size());
+		copy.addAll(words);
+		return new ReadOnlyDictionary(copy);
+	}
+
+	/**
+	 * @return the shared base dictionary
+	 */
+	public WordDictionary getBase() {
+		return base;
+	}
+
+	/**
+	 * Returns the number of changes held by this dictionary's own overlay (words
+	 * added plus base words removed), which is what its memory use grows with.
+	 */
+	public int overlaySize() {
+		return additions.size() + removals.size();
+	}
+
+	/**
+	 * Discards this dictionary's changes, so it holds exactly the words of the
+	 * base again.
+	 */
+	public void resetToBase() {
+		additions.clear();
+		removals.clear();
+	}
+
+	@Override
+	public boolean add(String word) {
+		//Adding back a removed base word just lifts its tombstone
+		if (removals.remove(word))
+			return true;
+		if (base.contains(word))
+			return false;
+
+		return additions.add(word);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends String> words) {
+		boolean changed = false;
+		for (String word : words)
+			if (add(word))
+				changed = true;
+
+		return changed;
+	}
+
+	@Override
+	public boolean contains(String word) {
+		if (additions.size() > 0 && additions.contains(word))
+			return true;
+		if (removals.size() > 0 && removals.contains(word))
+			return false;
+
+		return base.contains(word);
+	}
+
+	@Override
+	public boolean contains(char[] chars, int offset, int length) {
+		if (additions.size() > 0 && additions.contains(chars, offset, length))
+			return true;
+		if (removals.size() > 0 && removals.contains(chars, offset, length))
+			return false;
+
+		return base.contains(chars, offset, length);
+	}
+
+	@Override
+	public boolean remove(String word) {
+		if (additions.remove(word))
+			return true;
+		if (!base.contains(word))
+			return false;
+
+		return removals.add(word);
+	}
+
+	@Override
+	public boolean removeAll(Collection<? extends String> words) {
+		boolean changed = false;
+		for (String word : words)
+			if (remove(word))
+				changed = true;
+
+		return changed;
+	}
+
+	@Override
+	public int size() {
+		return base.size() + additions.size() - removals.size();
+	}
+
+	/**
+	 * Copies the overlay only; the copy shares this dictionary's base.
+	 */
+	@Override
+	public LayeredDictionary copy() {
+		return new LayeredDictionary(base, additions.copy(), removals.copy());
+	}
+
+	/**
+	 * Iterates over the base words that have not been removed, then over the
+	 * added words.
+	 */
+	@Override
+	public Iterator<String> iterator() {
+		return new Iterator<String>() {
+
+			private final Iterator<String> baseWords = base.iterator();
+
+			private final Iterator<String> addedWords = additions.iterator();
+
+			private String next = advance();
+
+			private String advance() {
+				while (baseWords.hasNext()) {
+					String word = baseWords.next();
+					if (removals.size() == 0 || !removals.contains(word))
+						return word;
+				}
+
+				return addedWords.hasNext() ? addedWords.next() : null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public String next() {
+				if (next == null)
+					throw new NoSuchElementException();
+
+				String word = next;
+				next = advance();
+				return word;
+			}
+		};
+	}
+
+	/**
+	 * A view of a dictionary that cannot be changed through it.
+	 */
+	private static class ReadOnlyDictionary implements WordDictionary {
+
+		private final WordDictionary words;
+
+		private ReadOnlyDictionary(WordDictionary words) {
+			this.words = words;
+		}
+
+		@Override
+		public boolean add(String word) {
+			throw new UnsupportedOperationException("The shared base dictionary is read-only");
+		}
+
+		@Override
+		public boolean addAll(Collection<? extends String> words) {
+			throw new UnsupportedOperationException("The shared base dictionary is read-only");
+		}
+
+		@Override
+		public boolean contains(String word) {
+			return words.contains(word);
+		}
+
+		@Override
+		public boolean contains(char[] chars, int offset, int length) {
+			return words.contains(chars, offset, length);
+		}
+
+		@Override
+		public boolean remove(String word) {
+			throw new UnsupportedOperationException("The shared base dictionary is read-only");
+		}
+
+		@Override
+		public boolean removeAll(Collection<? extends String> words) {
+			throw new UnsupportedOperationException("The shared base dictionary is read-only");
+		}
+
+		@Override
+		public int size() {
+			return words.size();
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return words.iterator();
+		}
+	}
+}
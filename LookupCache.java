@@ -0,0 +1,431 @@
+package assign08;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of dictionary verdicts (whether a word is spelled correctly),
+ * for putting in front of a dictionary whose lookups are expensive (e.g., a
+ * BinarySearchTree) when the same words, and the same misspellings, appear over
+ * and over.
+ *
+ * The cache is divided into independently locked segments, so that threads
+ * checking documents in parallel rarely wait on each other. Each segment evicts
+ * by segmented LRU: a new word enters a probationary list and moves to a
+ * protected list (at most 80% of the segment) when it is seen again, and
+ * eviction takes the least recently used probationary word first. A burst of
+ * words seen only once therefore cannot flush the words that recur.
+ *
+ * The size limit is either a number of entries or, approximately, a number of
+ * bytes (see withMaxBytes). Words are looked up by a range of characters, so no
+ * String is created for a word that is already cached.
+ *
+ * A verdict must be invalidated whenever the word is added to or removed from the
+ * dictionary. A verdict looked up before an invalidation and put after it is
+ * dropped rather than cached, so a racing spell-check never caches a stale
+ * verdict.
+ *
+ * @version October 18, 2026
+ */
+public class LookupCache {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	// approximate bytes taken by an entry and its String, besides the characters
+	private static final int ENTRY_BYTES = 96;
+
+	private final Segment[] segments;
+
+	private final boolean weighByBytes;
+
+	// number of invalidations so far; a put carries the value from before its lookup
+	private final AtomicLong invalidations = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a cache holding at most the given number of words.
+	 *
+	 * @param maxEntries - the greatest number of words to remember
+	 * @throws IllegalArgumentException if maxEntries is not positive
+	 */
+	public LookupCache(int maxEntries) {
+		this(maxEntries, false);
+	}
+
+	/**
+	 * Creates a cache whose entries take up approximately at most the given number
+	 * of bytes of memory.
+	 *
+	 * @param maxBytes - the greatest number of bytes to use
+	 * @return the cache
+	 * @throws IllegalArgumentException if maxBytes is too small to hold a word
+	 */
+	public static LookupCache withMaxBytes(long maxBytes) {
+		return new LookupCache(maxBytes, true);
+	}
+
+	private LookupCache(long capacity, boolean weighByBytes) {
+		long units = weighByBytes ? capacity / ENTRY_BYTES : capacity;
+		if (units < 1)
+			throw new IllegalArgumentException("Cache capacity " + capacity + " is too small");
+
+		this.weighByBytes = weighByBytes;
+
+		//Give every segment room for a reasonable number of words
+		int segmentCount = Integer.highestOneBit((int) Math.min(MAX_SEGMENTS, Math.max(1, units / 8)));
+		segments = new Segment[segmentCount];
+		//Split the capacity exactly, so that the segments together stay within it
+		for (int i = 0; i < segmentCount; i++)
+			segments[i] = new Segment(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0));
+	}
+
+	/**
+	 * Returns the cached verdict for the word held in chars[offset .. offset +
+	 * length), counting a hit or a miss.
+	 *
+	 * @param chars  - the array holding the word
+	 * @param offset - the index of the first character of the word
+	 * @param length - the number of characters in the word
+	 * @return Boolean.TRUE if the word is known to be spelled correctly,
+	 *         Boolean.FALSE if it is known to be misspelled, or null if it is not
+	 *         cached
+	 */
+	public Boolean get(char[] chars, int offset, int length) {
+		int hash = hash(chars, offset, length);
+		Boolean verdict = segmentFor(hash).get(chars, offset, length, hash);
+
+		if (verdict == null)
+			misses.increment();
+		else
+			hits.increment();
+
+		return verdict;
+	}
+
+	/**
+	 * Returns a stamp to be passed to put: take it before looking a word up in the
+	 * dictionary.
+	 */
+	public long stamp() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Caches the verdict for a word, unless any word has been invalidated since the
+	 * stamp was taken (in which case the verdict may be stale and is dropped).
+	 *
+	 * @param word    - the word looked up
+	 * @param correct - true if the word is in the dictionary
+	 * @param stamp   - the value of stamp() from before the lookup
+	 */
+	public void put(String word, boolean correct, long stamp) {
+		int hash = word.hashCode();
+		segmentFor(hash).put(word, hash, correct, stamp);
+	}
+
+	/**
+	 * Forgets the verdict for a word; call this when the word is added to or
+	 * removed from the dictionary.
+	 *
+	 * @param word - the word whose verdict has changed
+	 */
+	public void invalidate(String word) {
+		invalidations.incrementAndGet();
+		int hash = word.hashCode();
+		segmentFor(hash).remove(word, hash);
+	}
+
+	/**
+	 * Forgets every verdict; call this when the dictionary changes wholesale.
+	 */
+	public void clear() {
+		invalidations.incrementAndGet();
+		for (Segment segment : segments)
+			segment.clear();
+	}
+
+	/**
+	 * Returns the number of words cached.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments)
+			size += segment.size();
+		return size;
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached verdict.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that found no cached verdict.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the fraction of lookups that found a cached verdict (0 if there were
+	 * none).
+	 */
+	public double getHitRate() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0 ? 0 : hitCount / (double) total;
+	}
+
+	/**
+	 * Returns the number of words evicted to stay within the size limit.
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Sets the hit, miss, and eviction counts back to zero.
+	 */
+	public void resetStatistics() {
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("size=%d hits=%d misses=%d hitRate=%.3f evictions=%d", size(), getHitCount(),
+				getMissCount(), getHitRate(), getEvictionCount());
+	}
+
+	/**
+	 * Returns the segment responsible for a hash (chosen by its high bits, which
+	 * the segment's table does not use).
+	 */
+	private Segment segmentFor(int hash) {
+		return segments[(hash * 0x9E3779B9) >>> 28 & segments.length - 1];
+	}
+
+	/**
+	 * Returns the same hash as String.hashCode for the characters.
+	 */
+	private static int hash(char[] chars, int offset, int length) {
+		int hash = 0;
+		for (int i = offset; i < offset + length; i++)
+			hash = 31 * hash + chars[i];
+		return hash;
+	}
+
+	/**
+	 * A cached verdict, which is both in a hash chain and in one of its segment's
+	 * two recency lists.
+	 */
+	private static class Entry {
+
+		private final String word;
+		private final int hash;
+		private final long weight;
+		private boolean correct;
+		private boolean isProtected;
+
+		// next entry in the same hash bucket
+		private Entry next;
+
+		// neighbors in the recency list (more and less recently used)
+		private Entry newer;
+		private Entry older;
+
+		/**
+		 * Creates the sentinel of an empty recency list.
+		 */
+		private Entry() {
+			this(null, 0, false, 0);
+		}
+
+		private Entry(String word, int hash, boolean correct, long weight) {
+			this.word = word;
+			this.hash = hash;
+			this.correct = correct;
+			this.weight = weight;
+			this.newer = this;
+			this.older = this;
+		}
+
+		private boolean matches(char[] chars, int offset, int length, int hash) {
+			if (this.hash != hash || word.length() != length)
+				return false;
+
+			for (int i = 0; i < length; i++)
+				if (word.charAt(i) != chars[offset + i])
+					return false;
+
+			return true;
+		}
+	}
+
+	/**
+	 * One independently locked part of the cache: a chained hash table of entries
+	 * and the probationary and protected recency lists.
+	 */
+	private final class Segment {
+
+		private final long capacity;
+
+		private final long protectedCapacity;
+
+		private Entry[] table = new Entry[16];
+
+		private int count;
+
+		// sentinels of the recency lists; sentinel.newer is the least recently used
+		private final Entry probation = new Entry();
+		private final Entry protectedList = new Entry();
+
+		private long probationWeight;
+		private long protectedWeight;
+
+		private Segment(long capacity) {
+			this.capacity = capacity;
+			this.protectedCapacity = capacity * 4 / 5;
+		}
+
+		private synchronized Boolean get(char[] chars, int offset, int length, int hash) {
+			Entry entry = table[hash & table.length - 1];
+			while (entry != null && !entry.matches(chars, offset, length, hash))
+				entry = entry.next;
+
+			if (entry == null)
+				return null;
+
+			unlink(entry);
+			if (!entry.isProtected) {
+				probationWeight -= entry.weight;
+				protectedWeight += entry.weight;
+				entry.isProtected = true;
+			}
+			linkNewest(protectedList, entry);
+
+			//Demote the least recently used protected words back to probation
+			while (protectedWeight > protectedCapacity && protectedList.newer != protectedList) {
+				Entry demoted = protectedList.newer;
+				unlink(demoted);
+				demoted.isProtected = false;
+				protectedWeight -= demoted.weight;
+				probationWeight += demoted.weight;
+				linkNewest(probation, demoted);
+			}
+
+			return entry.correct;
+		}
+
+		private synchronized void put(String word, int hash, boolean correct, long stamp) {
+			if (invalidations.get() != stamp)
+				return;
+
+			int bucket = hash & table.length - 1;
+			for (Entry entry = table[bucket]; entry != null; entry = entry.next)
+				if (entry.hash == hash && entry.word.equals(word)) {
+					entry.correct = correct;
+					return;
+				}
+
+			Entry entry = new Entry(word, hash, correct, weighByBytes ? ENTRY_BYTES + 2L * word.length() : 1);
+			entry.next = table[bucket];
+			table[bucket] = entry;
+			linkNewest(probation, entry);
+			probationWeight += entry.weight;
+
+			if (++count > table.length * 3 / 4)
+				resize();
+
+			while (probationWeight + protectedWeight > capacity) {
+				Entry victim = probation.newer != probation ? probation.newer : protectedList.newer;
+				evict(victim);
+				evictions.increment();
+			}
+		}
+
+		private synchronized void remove(String word, int hash) {
+			for (Entry entry = table[hash & table.length - 1]; entry != null; entry = entry.next)
+				if (entry.hash == hash && entry.word.equals(word)) {
+					evict(entry);
+					return;
+				}
+		}
+
+		private synchronized void clear() {
+			table = new Entry[16];
+			count = 0;
+			probation.newer = probation.older = probation;
+			protectedList.newer = protectedList.older = protectedList;
+			probationWeight = 0;
+			protectedWeight = 0;
+		}
+
+		private synchronized int size() {
+			return count;
+		}
+
+		/**
+		 * Removes an entry from the table and its recency list.
+		 */
+		private void evict(Entry victim) {
+			int bucket = victim.hash & table.length - 1;
+			if (table[bucket] == victim)
+				table[bucket] = victim.next;
+			else {
+				Entry previous = table[bucket];
+				while (previous.next != victim)
+					previous = previous.next;
+				previous.next = victim.next;
+			}
+
+			unlink(victim);
+			if (victim.isProtected)
+				protectedWeight -= victim.weight;
+			else
+				probationWeight -= victim.weight;
+			count--;
+		}
+
+		/**
+		 * Doubles the table, redistributing the chains.
+		 */
+		private void resize() {
+			Entry[] newTable = new Entry[table.length * 2];
+
+			for (Entry entry : table)
+				while (entry != null) {
+					Entry next = entry.next;
+					int bucket = entry.hash & newTable.length - 1;
+					entry.next = newTable[bucket];
+					newTable[bucket] = entry;
+					entry = next;
+				}
+
+			table = newTable;
+		}
+
+		private void unlink(Entry entry) {
+			entry.newer.older = entry.older;
+			entry.older.newer = entry.newer;
+		}
+
+		/**
+		 * Links an entry into a recency list as its most recently used entry.
+		 */
+		private void linkNewest(Entry list, Entry entry) {
+			entry.older = list.older;
+			entry.newer = list;
+			list.older.newer = entry;
+			list.older = entry;
+		}
+	}
+}
@@ -0,0 +1,234 @@
+package assign08;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks LookupCache on its own and in front of a SpellChecker's dictionary:
+ *
+ * - get finds what put stored, and counts hits and misses (and the hit rate);
+ * - invalidate and clear forget verdicts, and a put whose stamp was taken before
+ *   an invalidation is dropped;
+ * - a cache limited by entries or by bytes never holds more than its limit,
+ *   counts its evictions, and keeps words that recur over a burst of words seen
+ *   once;
+ * - addToDictionary, removeFromDictionary, and reload invalidate the verdicts
+ *   they change, so a SpellChecker with a cache always agrees with one without,
+ *   including when a spell-check started before a reload finishes after it.
+ *
+ * Usage: java assign08.LookupCacheCheck
+ *
+ * The check throws an AssertionError (exiting with a nonzero status) on the
+ * first failure.
+ *
+ * @version October 18, 2026
+ */
+public class LookupCacheCheck {
+
+	public static void main(String[] args) throws Exception {
+		checkGetAndPut();
+		checkStamps();
+		checkEntryLimit();
+		checkByteLimit();
+		checkSpellChecker();
+		checkReloadDuringCheck();
+		System.out.println("OK");
+	}
+
+	private static void checkGetAndPut() {
+		LookupCache cache = new LookupCache(100);
+		cache.put("apple", true, cache.stamp());
+		cache.put("aple", false, cache.stamp());
+
+		check(get(cache, "apple") == Boolean.TRUE, "cached correct word not found");
+		check(get(cache, "aple") == Boolean.FALSE, "cached misspelling not found");
+		check(get(cache, "pear") == null, "uncached word found");
+		check(cache.size() == 2, "size " + cache.size() + ", expected 2");
+
+		//The word is looked up by a range of a larger array
+		char[] text = "an apple a day".toCharArray();
+		check(cache.get(text, 3, 5) == Boolean.TRUE, "cached word not found by range");
+
+		check(cache.getHitCount() == 3 && cache.getMissCount() == 1,
+				"hits " + cache.getHitCount() + " and misses " + cache.getMissCount() + ", expected 3 and 1");
+		check(cache.getHitRate() == 0.75, "hit rate " + cache.getHitRate() + ", expected 0.75");
+
+		cache.resetStatistics();
+		check(cache.getHitCount() == 0 && cache.getMissCount() == 0 && cache.getHitRate() == 0,
+				"statistics not reset");
+		check(cache.size() == 2, "resetting statistics dropped words");
+	}
+
+	private static void checkStamps() {
+		LookupCache cache = new LookupCache(100);
+
+		//A lookup that raced with an invalidation must not be cached
+		long stamp = cache.stamp();
+		cache.invalidate("kiwi");
+		cache.put("kiwi", false, stamp);
+		check(get(cache, "kiwi") == null, "put with a stamp from before an invalidation was cached");
+
+		stamp = cache.stamp();
+		cache.clear();
+		cache.put("kiwi", false, stamp);
+		check(get(cache, "kiwi") == null, "put with a stamp from before a clear was cached");
+
+		//A fresh stamp is accepted, and invalidate and clear forget the verdict
+		cache.put("kiwi", true, cache.stamp());
+		check(get(cache, "kiwi") == Boolean.TRUE, "put with a fresh stamp was dropped");
+		cache.invalidate("kiwi");
+		check(get(cache, "kiwi") == null, "invalidated word still cached");
+
+		cache.put("kiwi", true, cache.stamp());
+		cache.put("lime", false, cache.stamp());
+		cache.clear();
+		check(cache.size() == 0 && get(cache, "kiwi") == null && get(cache, "lime") == null,
+				"cleared cache still holds words");
+	}
+
+	private static void checkEntryLimit() {
+		int limit = 1000;
+		LookupCache cache = new LookupCache(limit);
+		List<String> hot = DictionaryBenchmark.generateWords(100, 1);
+		List<String> cold = DictionaryBenchmark.generateWords(20_000, 2);
+
+		for (String word : hot) {
+			cache.put(word, true, cache.stamp());
+			get(cache, word);
+		}
+
+		//A burst of words seen once must not push out the words that recur
+		for (int i = 0; i < cold.size(); i++) {
+			cache.put(cold.get(i), false, cache.stamp());
+			check(cache.size() <= limit, "size " + cache.size() + " exceeds the limit of " + limit);
+			if (i % 100 == 0)
+				for (String word : hot)
+					get(cache, word);
+		}
+
+		int hotKept = 0;
+		for (String word : hot)
+			if (get(cache, word) != null)
+				hotKept++;
+		check(hotKept == hot.size(), "only " + hotKept + " of " + hot.size() + " recurring words survived");
+		check(cache.getEvictionCount() >= cold.size() - limit,
+				"evictions " + cache.getEvictionCount() + ", expected at least " + (cold.size() - limit));
+	}
+
+	private static void checkByteLimit() {
+		long maxBytes = 64 * 1024;
+		LookupCache shortWords = LookupCache.withMaxBytes(maxBytes);
+		LookupCache longWords = LookupCache.withMaxBytes(maxBytes);
+
+		for (int i = 0; i < 10_000; i++) {
+			String word = Integer.toString(i, 26);
+			shortWords.put(word, true, shortWords.stamp());
+			longWords.put(word + "x".repeat(200), true, longWords.stamp());
+		}
+
+		//Long words take more bytes each, so fewer of them fit
+		check(shortWords.size() > 2 * longWords.size(), "byte limit held " + shortWords.size() + " short and "
+				+ longWords.size() + " long words");
+		check(shortWords.size() * 96L <= maxBytes, "short words exceed the byte limit: " + shortWords.size());
+		check(longWords.size() * (96L + 2 * 200) <= maxBytes, "long words exceed the byte limit: " + longWords.size());
+		check(longWords.getEvictionCount() == 10_000 - longWords.size(), "evictions "
+				+ longWords.getEvictionCount() + ", expected " + (10_000 - longWords.size()));
+
+		try {
+			LookupCache.withMaxBytes(10);
+			throw new AssertionError("a byte limit too small for a word was accepted");
+		}
+		catch(IllegalArgumentException e) {
+			//expected
+		}
+	}
+
+	/**
+	 * Changes a dictionary through a SpellChecker with a cache and checks that
+	 * its verdicts always agree with those of one without.
+	 */
+	private static void checkSpellChecker() throws Exception {
+		List<String> words = DictionaryBenchmark.generateWords(2_000, 3);
+		List<String> extra = DictionaryBenchmark.generateWords(200, 4);
+		SpellChecker cached = new SpellChecker(new SortedSetDictionary(new BinarySearchTree<String>(true)));
+		SpellChecker uncached = new SpellChecker(new StringHashSet());
+		cached.getDictionary().addAll(words);
+		uncached.getDictionary().addAll(words);
+		LookupCache cache = new LookupCache(500);
+		cached.setLookupCache(cache);
+
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 400; i++)
+			text.append(i % 2 == 0 ? words.get(i) : extra.get(i % extra.size())).append(' ');
+		String document = text.toString();
+
+		for (int round = 0; round < 60; round++) {
+			check(cached.spellCheck(document).equals(uncached.spellCheck(document)),
+					"round " + round + ": cached verdicts differ");
+
+			String word = round % 2 == 0 ? extra.get(round % extra.size()) : words.get(round);
+			if (round % 3 == 0) {
+				cached.removeFromDictionary(word);
+				uncached.removeFromDictionary(word);
+			}
+			else if (round % 10 == 1) {
+				List<String> reloaded = new ArrayList<String>(words.subList(round, words.size()));
+				reloaded.addAll(extra.subList(0, round));
+				cached.reload(DictionaryBenchmark.writeTemporaryFile(String.join(" ", reloaded)));
+				uncached.reload(DictionaryBenchmark.writeTemporaryFile(String.join(" ", reloaded)));
+			}
+			else {
+				cached.addToDictionary(word);
+				uncached.addToDictionary(word);
+			}
+		}
+
+		check(cache.getHitCount() > cache.getMissCount(), "hit rate " + cache.getHitRate()
+				+ " for a document checked over and over");
+	}
+
+	/**
+	 * Finishes a spell-check, which captured the dictionary before a reload,
+	 * after the reload: its verdicts from the old dictionary must not be cached.
+	 */
+	private static void checkReloadDuringCheck() throws IOException {
+		SpellChecker checker = new SpellChecker(List.of("apple", "banana"));
+		checker.setLookupCache(new LookupCache(100));
+		File reloaded = DictionaryBenchmark.writeTemporaryFile("apple banana kiwi");
+
+		//The document reloads the dictionary when it is first read, after the
+		//check has started
+		Reader document = new Reader() {
+			private boolean done;
+
+			@Override
+			public int read(char[] buffer, int offset, int length) throws IOException {
+				if (done)
+					return -1;
+				checker.reload(reloaded);
+				"kiwi".getChars(0, 4, buffer, offset);
+				done = true;
+				return 4;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		checker.spellCheck(document, word -> {});
+
+		check(checker.spellCheck("kiwi").isEmpty(), "verdict from before a reload was cached");
+	}
+
+	private static Boolean get(LookupCache cache, String word) {
+		return cache.get(word.toCharArray(), 0, word.length());
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
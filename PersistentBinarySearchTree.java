@@ -0,0 +1,586 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, self-balancing (AVL) binary search tree. Instead of changing the
+ * tree, insert and delete return a new version of it that shares every node off
+ * the path to the changed item with the old version (path copying), so a change
+ * allocates only O(log N) nodes and leaves the old version intact. Keeping a
+ * reference to a version is therefore an O(1) snapshot: a long-running check can
+ * read one version while edits produce newer ones, and a bad bulk edit can be
+ * rolled back by going back to the version before it.
+ *
+ * Nodes are BinaryNodes without parent links (which path copying cannot keep),
+ * caching the height and size of their subtrees. No node is changed once a
+ * version containing it is returned, so versions can be shared freely between
+ * threads.
+ *
+ * The SortedSet methods that would change the set throw
+ * UnsupportedOperationException; use insert, insertAll, delete, and deleteAll.
+ *
+ * @version October 18, 2026
+ */
+public final class PersistentBinarySearchTree<TreeType extends Comparable<? super TreeType>> implements SortedSet<TreeType>, Iterable<TreeType>
+{
+
+	private final BinaryNode<TreeType> root;
+
+	/**
+	 * Creates an empty tree.
+	 */
+	public PersistentBinarySearchTree()
+	{
+		this(null);
+	}
+
+	private PersistentBinarySearchTree(BinaryNode<TreeType> root)
+	{
+		this.root = root;
+	}
+
+	/**
+	 * Returns a version of this tree that contains the item.
+	 *
+	 * COST: O(log N) time and new nodes
+	 *
+	 * @param item - the item to be added
+	 * @return the new version, or this tree if it already contains the item
+	 */
+	public PersistentBinarySearchTree<TreeType> insert(TreeType item)
+	{
+		BinaryNode<TreeType> newRoot = insert(root, item);
+		return newRoot == root ? this : new PersistentBinarySearchTree<TreeType>(newRoot);
+	}
+
+	/**
+	 * Returns a version of this tree that contains every item of the collection.
+	 * If this tree is empty, the items are sorted (unless they already are) and
+	 * built into a perfectly balanced tree in O(N log N) time; otherwise they are
+	 * inserted one at a time.
+	 *
+	 * @param items - the items to be added
+	 * @return the new version, or this tree if it already contains every item
+	 */
+	@SuppressWarnings("unchecked")
+	public PersistentBinarySearchTree<TreeType> insertAll(Collection<? extends TreeType> items)
+	{
+		if (root != null)
+		{
+			BinaryNode<TreeType> newRoot = root;
+			for (TreeType item : items)
+				newRoot = insert(newRoot, item);
+
+			return newRoot == root ? this : new PersistentBinarySearchTree<TreeType>(newRoot);
+		}
+
+		Object[] sorted = items.toArray();
+
+		//Only pay for a sort if the input isn't already in order
+		for (int i = 1; i < sorted.length; i++)
+		{
+			if (((TreeType) sorted[i - 1]).compareTo((TreeType) sorted[i]) > 0)
+			{
+				Arrays.sort(sorted);
+				break;
+			}
+		}
+
+		int distinct = 0;
+		for (int i = 0; i < sorted.length; i++)
+		{
+			if (distinct == 0 || ((TreeType) sorted[distinct - 1]).compareTo((TreeType) sorted[i]) != 0)
+				sorted[distinct++] = sorted[i];
+		}
+
+		return distinct == 0 ? this : new PersistentBinarySearchTree<TreeType>(buildBalanced(sorted, 0, distinct - 1));
+	}
+
+	/**
+	 * Returns a version of this tree that does not contain the item.
+	 *
+	 * COST: O(log N) time and new nodes
+	 *
+	 * @param item - the item to be removed
+	 * @return the new version, or this tree if it does not contain the item
+	 */
+	public PersistentBinarySearchTree<TreeType> delete(TreeType item)
+	{
+		BinaryNode<TreeType> newRoot = delete(root, item);
+		return newRoot == root ? this : new PersistentBinarySearchTree<TreeType>(newRoot);
+	}
+
+	/**
+	 * Returns a version of this tree that contains none of the items of the
+	 * collection.
+	 *
+	 * @param items - the items to be removed
+	 * @return the new version, or this tree if it contains none of the items
+	 */
+	public PersistentBinarySearchTree<TreeType> deleteAll(Collection<? extends TreeType> items)
+	{
+		BinaryNode<TreeType> newRoot = root;
+		for (TreeType item : items)
+			newRoot = delete(newRoot, item);
+
+		return newRoot == root ? this : new PersistentBinarySearchTree<TreeType>(newRoot);
+	}
+
+	/**
+	 * Not supported, since the tree is immutable; use insert.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean add(TreeType item)
+	{
+		throw new UnsupportedOperationException("PersistentBinarySearchTree is immutable; use insert");
+	}
+
+	/**
+	 * Not supported, since the tree is immutable; use insertAll.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean addAll(Collection<? extends TreeType> items)
+	{
+		throw new UnsupportedOperationException("PersistentBinarySearchTree is immutable; use insertAll");
+	}
+
+	/**
+	 * Not supported, since the tree is immutable; use a new, empty tree.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void clear()
+	{
+		throw new UnsupportedOperationException("PersistentBinarySearchTree is immutable");
+	}
+
+	/**
+	 * Determines if there is an item in this set that is equal to the specified
+	 * item.
+	 *
+	 * COST: O(log N)
+	 *
+	 * @param item - the item sought in this set
+	 * @return true if there is an item in this set that is equal to the input item
+	 */
+	@Override
+	public boolean contains(TreeType item)
+	{
+		BinaryNode<TreeType> temp = root;
+
+		while (temp != null)
+		{
+			int comparison = item.compareTo(temp.getData());
+
+			if (comparison == 0)
+				return true;
+			else if (comparison > 0)
+				temp = temp.getRightChild();
+			else
+				temp = temp.getLeftChild();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determines if there is an item in this tree of Strings that is equal to the
+	 * String made of the specified range of characters, without creating that
+	 * String.
+	 *
+	 * COST: O(tree height)
+	 *
+	 * @param chars - the array holding the String sought
+	 * @param offset - the index of its first character
+	 * @param length - the number of characters in it
+	 * @return true if there is an item in this set equal to the String
+	 * @throws ClassCastException if the items of this tree are not Strings
+	 */
+	boolean contains(char[] chars, int offset, int length)
+	{
+		BinaryNode<TreeType> temp = root;
+
+		while (temp != null)
+		{
+			int comparison = BinarySearchTree.compareChars(chars, offset, length, (String) temp.getData());
+
+			if (comparison == 0)
+				return true;
+			else if (comparison > 0)
+				temp = temp.getRightChild();
+			else
+				temp = temp.getLeftChild();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determines if for each item in the specified collection, there is an item in
+	 * this set that is equal to it.
+	 *
+	 * @param items - the collection of items sought in this set
+	 * @return true if for each item in the specified collection, there is an item
+	 *         in this set that is equal to it
+	 */
+	@Override
+	public boolean containsAll(Collection<? extends TreeType> items)
+	{
+		for (TreeType item : items)
+			if (!contains(item))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Returns the first (i.e., smallest) item in this set.
+	 *
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public TreeType first() throws NoSuchElementException
+	{
+		if (root == null)
+			throw new NoSuchElementException();
+
+		return root.getLeftmostNode().getData();
+	}
+
+	/**
+	 * Returns true if this set contains no items.
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		return root == null;
+	}
+
+	/**
+	 * Returns the last (i.e., largest) item in this set.
+	 *
+	 * @throws NoSuchElementException if the set is empty
+	 */
+	@Override
+	public TreeType last() throws NoSuchElementException
+	{
+		if (root == null)
+			throw new NoSuchElementException();
+
+		return root.getRightmostNode().getData();
+	}
+
+	/**
+	 * Not supported, since the tree is immutable; use delete.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean remove(TreeType item)
+	{
+		throw new UnsupportedOperationException("PersistentBinarySearchTree is immutable; use delete");
+	}
+
+	/**
+	 * Not supported, since the tree is immutable; use deleteAll.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends TreeType> items)
+	{
+		throw new UnsupportedOperationException("PersistentBinarySearchTree is immutable; use deleteAll");
+	}
+
+	/**
+	 * Returns the number of items in this set, as cached in the root.
+	 *
+	 * COST: O(1)
+	 */
+	@Override
+	public int size()
+	{
+		return sizeOf(root);
+	}
+
+	/**
+	 * Returns an ArrayList containing all of the items in this set, in sorted
+	 * order.
+	 */
+	@Override
+	public ArrayList<TreeType> toArrayList()
+	{
+		ArrayList<TreeType> list = new ArrayList<TreeType>(size());
+		for (TreeType item : this)
+			list.add(item);
+
+		return list;
+	}
+
+	/**
+	 * Returns an iterator over the items of this version in sorted order. Since
+	 * the version never changes, it never fails.
+	 */
+	@Override
+	public Iterator<TreeType> iterator()
+	{
+		return new Iterator<TreeType>()
+		{
+			// the nodes whose items and right subtrees are still to be visited,
+			// deepest on top; an AVL tree's height bounds how many there can be
+			@SuppressWarnings("unchecked")
+			private final BinaryNode<TreeType>[] stack = (BinaryNode<TreeType>[]) new BinaryNode<?>[heightOf(root) + 1];
+
+			private int depth = pushLeftSpine(root);
+
+			private int pushLeftSpine(BinaryNode<TreeType> node)
+			{
+				int top = depth;
+				for (; node != null; node = node.getLeftChild())
+					stack[top++] = node;
+				return top;
+			}
+
+			@Override
+			public boolean hasNext()
+			{
+				return depth > 0;
+			}
+
+			@Override
+			public TreeType next()
+			{
+				if (depth == 0)
+					throw new NoSuchElementException();
+
+				BinaryNode<TreeType> node = stack[--depth];
+				depth = pushLeftSpine(node.getRightChild());
+				return node.getData();
+			}
+		};
+	}
+
+	/**
+	 * Get height of tree from the root (-1 for an empty tree), as cached in the root.
+	 *
+	 * COST: O(1)
+	 */
+	public int getHeight()
+	{
+		return heightOf(root);
+	}
+
+	/**
+	 * Returns the item at the given position in sorted order (the k-th smallest
+	 * item, counting from 0), found using the cached subtree sizes.
+	 *
+	 * COST: O(log N)
+	 *
+	 * @param k - the position of the item, from 0 to size() - 1
+	 * @return the item at position k
+	 * @throws IndexOutOfBoundsException if k is not a valid position
+	 */
+	public TreeType select(int k)
+	{
+		if (k < 0 || k >= size())
+			throw new IndexOutOfBoundsException("Position " + k + " out of range for size " + size());
+
+		BinaryNode<TreeType> temp = root;
+
+		while (true)
+		{
+			int leftSize = sizeOf(temp.getLeftChild());
+
+			if (k < leftSize)
+				temp = temp.getLeftChild();
+			else if (k == leftSize)
+				return temp.getData();
+			else
+			{
+				k -= leftSize + 1;
+				temp = temp.getRightChild();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of items in this tree that are smaller than the given item.
+	 *
+	 * COST: O(log N)
+	 *
+	 * @param item - the item whose rank is sought
+	 * @return the number of items smaller than item
+	 */
+	public int rank(TreeType item)
+	{
+		BinaryNode<TreeType> temp = root;
+		int rank = 0;
+
+		while (temp != null)
+		{
+			int comparison = item.compareTo(temp.getData());
+
+			if (comparison < 0)
+				temp = temp.getLeftChild();
+			else
+			{
+				rank += sizeOf(temp.getLeftChild());
+				if (comparison == 0)
+					return rank;
+				rank++;
+				temp = temp.getRightChild();
+			}
+		}
+
+		return rank;
+	}
+
+	/**
+	 * Returns the root of a subtree that contains the item as well as the items of
+	 * node's subtree; node itself if it already contains the item.
+	 */
+	private static <T extends Comparable<? super T>> BinaryNode<T> insert(BinaryNode<T> node, T item)
+	{
+		if (node == null)
+			return newNode(item, null, null);
+
+		int comparison = item.compareTo(node.getData());
+
+		if (comparison < 0)
+		{
+			BinaryNode<T> left = insert(node.getLeftChild(), item);
+			return left == node.getLeftChild() ? node : balance(node.getData(), left, node.getRightChild());
+		}
+		else if (comparison > 0)
+		{
+			BinaryNode<T> right = insert(node.getRightChild(), item);
+			return right == node.getRightChild() ? node : balance(node.getData(), node.getLeftChild(), right);
+		}
+
+		return node;
+	}
+
+	/**
+	 * Returns the root of a subtree holding the items of node's subtree other than
+	 * item; node itself if it does not contain the item.
+	 */
+	private static <T extends Comparable<? super T>> BinaryNode<T> delete(BinaryNode<T> node, T item)
+	{
+		if (node == null)
+			return null;
+
+		int comparison = item.compareTo(node.getData());
+
+		if (comparison < 0)
+		{
+			BinaryNode<T> left = delete(node.getLeftChild(), item);
+			return left == node.getLeftChild() ? node : balance(node.getData(), left, node.getRightChild());
+		}
+		else if (comparison > 0)
+		{
+			BinaryNode<T> right = delete(node.getRightChild(), item);
+			return right == node.getRightChild() ? node : balance(node.getData(), node.getLeftChild(), right);
+		}
+
+		//A node with at most one child is replaced by that child
+		if (node.getLeftChild() == null)
+			return node.getRightChild();
+		if (node.getRightChild() == null)
+			return node.getLeftChild();
+
+		//Otherwise the successor takes the node's place
+		T successor = node.getRightChild().getLeftmostNode().getData();
+		return balance(successor, node.getLeftChild(), deleteFirst(node.getRightChild()));
+	}
+
+	/**
+	 * Returns the root of a subtree holding the items of node's subtree other than
+	 * the smallest.
+	 */
+	private static <T extends Comparable<? super T>> BinaryNode<T> deleteFirst(BinaryNode<T> node)
+	{
+		if (node.getLeftChild() == null)
+			return node.getRightChild();
+
+		return balance(node.getData(), deleteFirst(node.getLeftChild()), node.getRightChild());
+	}
+
+	/**
+	 * Returns a new node holding data over the given subtrees (whose heights differ
+	 * by at most two), rotating if their heights differ by two so that the result
+	 * is balanced. Only new nodes are created; the subtrees are not changed.
+	 */
+	private static <T> BinaryNode<T> balance(T data, BinaryNode<T> left, BinaryNode<T> right)
+	{
+		int balance = heightOf(left) - heightOf(right);
+
+		//Left side too tall: rotate right, first rotating a left-right shape left
+		if (balance > 1)
+		{
+			if (heightOf(left.getLeftChild()) >= heightOf(left.getRightChild()))
+				return newNode(left.getData(), left.getLeftChild(), newNode(data, left.getRightChild(), right));
+
+			BinaryNode<T> pivot = left.getRightChild();
+			return newNode(pivot.getData(), newNode(left.getData(), left.getLeftChild(), pivot.getLeftChild()),
+					newNode(data, pivot.getRightChild(), right));
+		}
+		//Right side too tall: mirror image of the case above
+		if (balance < -1)
+		{
+			if (heightOf(right.getRightChild()) >= heightOf(right.getLeftChild()))
+				return newNode(right.getData(), newNode(data, left, right.getLeftChild()), right.getRightChild());
+
+			BinaryNode<T> pivot = right.getLeftChild();
+			return newNode(pivot.getData(), newNode(data, left, pivot.getLeftChild()),
+					newNode(right.getData(), pivot.getRightChild(), right.getRightChild()));
+		}
+
+		return newNode(data, left, right);
+	}
+
+	/**
+	 * Builds a perfectly balanced subtree from the sorted, duplicate-free items in
+	 * sorted[low..high].
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> BinaryNode<T> buildBalanced(Object[] sorted, int low, int high)
+	{
+		if (low > high)
+			return null;
+
+		int middle = (low + high) >>> 1;
+		return newNode((T) sorted[middle], buildBalanced(sorted, low, middle - 1),
+				buildBalanced(sorted, middle + 1, high));
+	}
+
+	/**
+	 * Creates a node (with no parent link) over the given subtrees, caching its
+	 * height and size.
+	 */
+	private static <T> BinaryNode<T> newNode(T data, BinaryNode<T> left, BinaryNode<T> right)
+	{
+		BinaryNode<T> node = new BinaryNode<T>(data, null, left, right);
+		node.setHeight(1 + Math.max(heightOf(left), heightOf(right)));
+		node.setSize(1 + sizeOf(left) + sizeOf(right));
+		return node;
+	}
+
+	private static int heightOf(BinaryNode<?> node)
+	{
+		return node == null ? -1 : node.getHeight();
+	}
+
+	private static int sizeOf(BinaryNode<?> node)
+	{
+		return node == null ? 0 : node.getSize();
+	}
+}
@@ -0,0 +1,512 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Checks the sorted sets of the package against java.util.TreeSet: each is given
+ * the same random sequence of add, remove, contains, addAll, removeAll,
+ * containsAll, and clear calls as a TreeSet (and an ArrayBinarySearchTree is
+ * compacted now and then), every call must return what the TreeSet's returns,
+ * and every so often the whole contents are compared:
+ *
+ * - size, isEmpty, first, last, toArrayList, and iteration order;
+ * - contains on a word embedded in a larger char array, as SortedSetDictionary
+ *   looks words up;
+ * - for a BinarySearchTree or PersistentBinarySearchTree, select and rank at
+ *   every position (which relies on the subtree sizes cached in the nodes);
+ * - for every tree, a height within the bound for the kind of tree;
+ * - for a DawgSortedSet, closest against a scan of all the words;
+ * - for a BinarySearchTree, ceiling, floor, headSet, and tailSet of one in
+ *   QUERY_STRIDE vocabulary words (a different share each time), subSet between
+ *   pairs of them, and prefix for prefixes of them, each iterated twice;
+ * - for a BinarySearchTree, union, intersection, and difference with another
+ *   kind of sorted set.
+ *
+ * A PersistentBinarySearchTree is given the same kinds of changes through insert,
+ * delete, insertAll, and deleteAll instead, and the old versions it returned
+ * must keep their words.
+ *
+ * The words are drawn from a small random vocabulary, so that adds and removes
+ * often hit words already present, and share long prefixes (often longer than
+ * the 8 characters of a StringBinarySearchTree's prefix key). A few of their
+ * characters are (char) 255, (char) 256, and Character.MAX_VALUE, the edge cases
+ * of the prefix key and of prefix's upper bound.
+ *
+ * Usage: java assign08.SortedSetCrossCheck [operations]
+ *
+ * Each set is given the given number of operations (default 10,000; a quarter
+ * of them for a DawgSortedSet, which rebuilds its graph on every change). The
+ * check throws an AssertionError (exiting with a nonzero status) on the first
+ * disagreement.
+ *
+ * @version October 18, 2026
+ */
+public class SortedSetCrossCheck {
+
+	// the characters words are mostly made of
+	private static final String ALPHABET = "abcde";
+
+	// the characters one in RARE_ODDS characters is drawn from instead
+	private static final String RARE = "\u00FF\u0100\uFFFF";
+
+	private static final int RARE_ODDS = 10;
+
+	// the number of distinct words operations are drawn from
+	private static final int VOCABULARY_SIZE = 400;
+
+	// the number of operations between two full comparisons
+	private static final int CHECK_INTERVAL = 100;
+
+	// one in this many vocabulary words is queried in each full comparison
+	private static final int QUERY_STRIDE = 8;
+
+	// one in this many versions of a PersistentBinarySearchTree is kept and rechecked
+	private static final int VERSION_INTERVAL = 25;
+
+	public static void main(String[] args) {
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+		Random random = new Random(42);
+		List<String> vocabulary = randomVocabulary(random, VOCABULARY_SIZE);
+
+		checkSortedSet("BinarySearchTree", new BinarySearchTree<String>(false), vocabulary, random, operations);
+		checkSortedSet("BinarySearchTree (AVL)", new BinarySearchTree<String>(true), vocabulary, random, operations);
+		checkSortedSet("StringBinarySearchTree", new StringBinarySearchTree(false), vocabulary, random, operations);
+		checkSortedSet("StringBinarySearchTree (AVL)", new StringBinarySearchTree(true), vocabulary, random,
+				operations);
+		checkSortedSet("ArrayBinarySearchTree", new ArrayBinarySearchTree<String>(false), vocabulary, random,
+				operations);
+		checkSortedSet("ArrayBinarySearchTree (AVL)", new ArrayBinarySearchTree<String>(true), vocabulary, random,
+				operations);
+		checkPersistent("PersistentBinarySearchTree", vocabulary, random, operations);
+		//Every change rebuilds a DawgSortedSet's graph, so it gets fewer of them
+		checkSortedSet("DawgSortedSet", new DawgSortedSet(), vocabulary, random, operations / 4);
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Gives a set and a TreeSet the same random operations, checking that every
+	 * call returns the same result and, every CHECK_INTERVAL operations, that the
+	 * two hold the same words.
+	 */
+	private static void checkSortedSet(String name, SortedSet<String> set, List<String> vocabulary, Random random,
+			int operations) {
+		TreeSet<String> expected = new TreeSet<String>();
+
+		for (int i = 0; i < operations; i++) {
+			String word = vocabulary.get(random.nextInt(vocabulary.size()));
+			int operation = random.nextInt(20);
+
+			if (operation < 6)
+				check(set.add(word) == expected.add(word), name + ": add(" + word + ") disagrees");
+			else if (operation < 10)
+				check(set.remove(word) == expected.remove(word), name + ": remove(" + word + ") disagrees");
+			else if (operation < 13)
+				check(set.contains(word) == expected.contains(word), name + ": contains(" + word + ") disagrees");
+			else if (operation < 15) {
+				List<String> words = randomWords(vocabulary, random);
+				check(set.addAll(words) == expected.addAll(words), name + ": addAll(" + words + ") disagrees");
+			}
+			else if (operation < 17) {
+				List<String> words = randomWords(vocabulary, random);
+				check(set.removeAll(words) == expected.removeAll(words), name + ": removeAll(" + words + ") disagrees");
+			}
+			else if (operation < 19) {
+				//Mostly words the set holds (in order or not), so the answer is not always false
+				List<String> words = new ArrayList<String>(expected.headSet(word));
+				if (random.nextBoolean())
+					words.add(vocabulary.get(random.nextInt(vocabulary.size())));
+				if (random.nextBoolean())
+					Collections.shuffle(words, random);
+				check(set.containsAll(words) == expected.containsAll(words), name + ": containsAll disagrees");
+			}
+			else if (random.nextInt(10) == 0) {
+				set.clear();
+				expected.clear();
+			}
+			else if (set instanceof ArrayBinarySearchTree)
+				((ArrayBinarySearchTree<String>) set).compact();
+
+			if (i % CHECK_INTERVAL == 0 || i == operations - 1)
+				checkContents(name + " after " + (i + 1) + " operations", set, expected, vocabulary);
+		}
+
+		System.out.printf("%-36s ok%n", name);
+	}
+
+	/**
+	 * Gives a PersistentBinarySearchTree and a TreeSet the same random changes,
+	 * each change making a new version. A change must return a new version exactly
+	 * when the TreeSet's call returns true, and every version kept along the way
+	 * (one in VERSION_INTERVAL) must still hold the words it held when it was made.
+	 */
+	private static void checkPersistent(String name, List<String> vocabulary, Random random, int operations) {
+		PersistentBinarySearchTree<String> version = new PersistentBinarySearchTree<String>();
+		TreeSet<String> expected = new TreeSet<String>();
+		List<PersistentBinarySearchTree<String>> versions = new ArrayList<PersistentBinarySearchTree<String>>();
+		List<List<String>> versionWords = new ArrayList<List<String>>();
+
+		for (int i = 0; i < operations; i++) {
+			String word = vocabulary.get(random.nextInt(vocabulary.size()));
+			int operation = random.nextInt(10);
+			PersistentBinarySearchTree<String> next = version;
+			boolean changed = false;
+
+			if (operation < 4) {
+				next = version.insert(word);
+				changed = expected.add(word);
+			}
+			else if (operation < 7) {
+				next = version.delete(word);
+				changed = expected.remove(word);
+			}
+			else if (operation < 8) {
+				List<String> words = randomWords(vocabulary, random);
+				next = version.insertAll(words);
+				changed = expected.addAll(words);
+			}
+			else if (operation < 9) {
+				List<String> words = randomWords(vocabulary, random);
+				next = version.deleteAll(words);
+				changed = expected.removeAll(words);
+			}
+			else
+				check(version.contains(word) == expected.contains(word), name + ": contains(" + word + ") disagrees");
+
+			check((next != version) == changed, name + ": operation " + operation + " on " + word
+					+ (changed ? " returned the old version" : " made a new version without a change"));
+			version = next;
+
+			if (i % VERSION_INTERVAL == 0) {
+				versions.add(version);
+				versionWords.add(new ArrayList<String>(expected));
+			}
+
+			if (i % CHECK_INTERVAL == 0 || i == operations - 1) {
+				checkContents(name + " after " + (i + 1) + " operations", version, expected, vocabulary);
+				for (int v = 0; v < versions.size(); v++)
+					check(versions.get(v).toArrayList().equals(versionWords.get(v)), name + ": version "
+							+ v * VERSION_INTERVAL + " changed after " + (i + 1) + " operations");
+			}
+		}
+
+		PersistentBinarySearchTree<String> last = version;
+		checkThrows(UnsupportedOperationException.class, () -> last.add("a"), name + ": add");
+		checkThrows(UnsupportedOperationException.class, () -> last.remove("a"), name + ": remove");
+		checkThrows(UnsupportedOperationException.class, last::clear, name + ": clear");
+		System.out.printf("%-36s ok%n", name);
+	}
+
+	/**
+	 * Checks that a set holds exactly the words of a TreeSet.
+	 */
+	private static void checkContents(String name, SortedSet<String> set, TreeSet<String> expected,
+			List<String> vocabulary) {
+		ArrayList<String> words = new ArrayList<String>(expected);
+
+		check(set.size() == expected.size(), name + ": size " + set.size() + ", expected " + expected.size());
+		check(set.isEmpty() == expected.isEmpty(), name + ": isEmpty disagrees");
+		check(set.toArrayList().equals(words), name + ": toArrayList differs");
+		if (set instanceof Iterable) {
+			List<String> iterated = new ArrayList<String>();
+			for (Object word : (Iterable<?>) set)
+				iterated.add((String) word);
+			check(iterated.equals(words), name + ": iteration order differs");
+		}
+
+		if (expected.isEmpty()) {
+			checkThrows(NoSuchElementException.class, set::first, name + ": first() of an empty set");
+			checkThrows(NoSuchElementException.class, set::last, name + ": last() of an empty set");
+		}
+		else {
+			check(set.first().equals(expected.first()), name + ": first " + set.first());
+			check(set.last().equals(expected.last()), name + ": last " + set.last());
+		}
+
+		//Look every vocabulary word up by a range of a larger array
+		SortedSetDictionary dictionary = new SortedSetDictionary(set);
+		for (String word : vocabulary) {
+			char[] chars = ("x" + word + "y").toCharArray();
+			check(dictionary.contains(chars, 1, word.length()) == expected.contains(word),
+					name + ": contains(char[]) of " + word + " disagrees");
+		}
+
+		if (set instanceof BinarySearchTree) {
+			BinarySearchTree<String> tree = (BinarySearchTree<String>) set;
+			checkOrderStatistics(name, tree::select, tree::rank, words, vocabulary);
+			checkHeight(name, tree.getHeight(), words.size(), tree.isSelfBalancing());
+			checkQueries(name, tree, expected, vocabulary);
+			checkSetOperations(name, tree, expected, vocabulary);
+		}
+		if (set instanceof PersistentBinarySearchTree) {
+			PersistentBinarySearchTree<String> tree = (PersistentBinarySearchTree<String>) set;
+			checkOrderStatistics(name, tree::select, tree::rank, words, vocabulary);
+			checkHeight(name, tree.getHeight(), words.size(), true);
+		}
+		if (set instanceof ArrayBinarySearchTree) {
+			ArrayBinarySearchTree<String> tree = (ArrayBinarySearchTree<String>) set;
+			checkHeight(name, tree.getHeight(), words.size(), tree.isSelfBalancing());
+		}
+		if (set instanceof DawgSortedSet)
+			checkClosest(name, (DawgSortedSet) set, words, vocabulary);
+	}
+
+	/**
+	 * Checks closest for one in QUERY_STRIDE vocabulary words, and for each with a
+	 * letter appended, against a scan of all the words with the edit distance
+	 * computed here.
+	 */
+	private static void checkClosest(String name, DawgSortedSet dawg, List<String> words, List<String> vocabulary) {
+		for (int i = words.size() % QUERY_STRIDE; i < vocabulary.size(); i += QUERY_STRIDE) {
+			int maxDistance = i % 4;
+			int k = i % 6;
+			for (String word : new String[] { vocabulary.get(i), vocabulary.get(i) + 'b' }) {
+				List<List<String>> byDistance = new ArrayList<List<String>>();
+				for (int d = 0; d <= maxDistance; d++)
+					byDistance.add(new ArrayList<String>());
+				for (String candidate : words) {
+					int d = distance(word, candidate);
+					if (d <= maxDistance)
+						byDistance.get(d).add(candidate);
+				}
+
+				List<String> expected = new ArrayList<String>();
+				for (List<String> candidates : byDistance)
+					expected.addAll(candidates);
+				expected = expected.subList(0, Math.min(k, expected.size()));
+
+				List<String> closest = dawg.closest(word, maxDistance, k);
+				check(closest.equals(expected), name + ": closest(" + word + ", " + maxDistance + ", " + k + ") "
+						+ closest + ", expected " + expected);
+			}
+		}
+	}
+
+	/**
+	 * Returns the optimal string alignment distance between two words: the
+	 * insertions, deletions, substitutions, and swaps of adjacent characters
+	 * needed to turn one into the other, with no character edited twice.
+	 */
+	private static int distance(String a, String b) {
+		int[][] table = new int[a.length() + 1][b.length() + 1];
+		for (int i = 0; i <= a.length(); i++) {
+			for (int j = 0; j <= b.length(); j++) {
+				if (i == 0 || j == 0) {
+					table[i][j] = i + j;
+					continue;
+				}
+
+				int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+				table[i][j] = Math.min(Math.min(table[i - 1][j] + 1, table[i][j - 1] + 1), table[i - 1][j - 1] + cost);
+				if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1))
+					table[i][j] = Math.min(table[i][j], table[i - 2][j - 2] + 1);
+			}
+		}
+		return table[a.length()][b.length()];
+	}
+
+	/**
+	 * Checks the range and prefix queries of a tree against those of a TreeSet.
+	 */
+	private static void checkQueries(String name, BinarySearchTree<String> tree, TreeSet<String> expected,
+			List<String> vocabulary) {
+		for (int i = expected.size() % QUERY_STRIDE; i < vocabulary.size(); i += QUERY_STRIDE) {
+			String word = vocabulary.get(i);
+			check(Objects.equals(tree.ceiling(word), expected.ceiling(word)), name + ": ceiling(" + word + ") "
+					+ tree.ceiling(word));
+			check(Objects.equals(tree.floor(word), expected.floor(word)), name + ": floor(" + word + ") "
+					+ tree.floor(word));
+			checkView(name + ": headSet(" + word + ")", tree.headSet(word), expected.headSet(word, false));
+			checkView(name + ": tailSet(" + word + ")", tree.tailSet(word), expected.tailSet(word, true));
+
+			String other = vocabulary.get((7 * i + 3) % vocabulary.size());
+			String from = word.compareTo(other) <= 0 ? word : other;
+			String to = word.compareTo(other) <= 0 ? other : word;
+			checkView(name + ": subSet(" + from + ", " + to + ")", tree.subSet(from, to),
+					expected.subSet(from, true, to, false));
+
+			for (String prefix : new String[] { word, word.substring(0, word.length() / 2), word + '\uFFFF' }) {
+				List<String> matches = new ArrayList<String>();
+				for (String candidate : expected.tailSet(prefix, true)) {
+					if (!candidate.startsWith(prefix))
+						break;
+					matches.add(candidate);
+				}
+				checkView(name + ": prefix(" + prefix + ")", BinarySearchTree.prefix(tree, prefix), matches);
+			}
+		}
+	}
+
+	/**
+	 * Checks union, intersection, and difference of a tree with a set of about a
+	 * third of the vocabulary (a BinarySearchTree, an ArrayBinarySearchTree, or a
+	 * DawgSortedSet, in turn) against those of TreeSets. The results must be
+	 * perfectly balanced trees configured like the tree, and neither operand may
+	 * change.
+	 */
+	private static void checkSetOperations(String name, BinarySearchTree<String> tree, TreeSet<String> expected,
+			List<String> vocabulary) {
+		TreeSet<String> otherWords = new TreeSet<String>();
+		for (int i = expected.size() % 3; i < vocabulary.size(); i += 3)
+			otherWords.add(vocabulary.get(i));
+
+		SortedSet<String> other;
+		if (expected.size() % 3 == 0)
+			other = new BinarySearchTree<String>(false);
+		else if (expected.size() % 3 == 1)
+			other = new ArrayBinarySearchTree<String>(true);
+		else
+			other = new DawgSortedSet();
+		other.addAll(otherWords);
+
+		TreeSet<String> union = new TreeSet<String>(expected);
+		union.addAll(otherWords);
+		TreeSet<String> intersection = new TreeSet<String>(expected);
+		intersection.retainAll(otherWords);
+		TreeSet<String> difference = new TreeSet<String>(expected);
+		difference.removeAll(otherWords);
+
+		checkSetOperation(name + ": union", tree, tree.union(other), union);
+		checkSetOperation(name + ": intersection", tree, tree.intersection(other), intersection);
+		checkSetOperation(name + ": difference", tree, tree.difference(other), difference);
+		check(tree.toArrayList().equals(new ArrayList<String>(expected)), name + ": set operation changed the tree");
+		check(other.toArrayList().equals(new ArrayList<String>(otherWords)),
+				name + ": set operation changed the other set");
+	}
+
+	private static void checkSetOperation(String name, BinarySearchTree<String> tree, BinarySearchTree<String> result,
+			TreeSet<String> expected) {
+		check(result.toArrayList().equals(new ArrayList<String>(expected)), name + " differs");
+		check(result.size() == expected.size(), name + ": size " + result.size() + ", expected " + expected.size());
+		check(result.getClass() == tree.getClass() && result.isSelfBalancing() == tree.isSelfBalancing(),
+				name + ": result not configured like the tree");
+
+		int balanced = expected.isEmpty() ? -1 : 31 - Integer.numberOfLeadingZeros(expected.size());
+		check(result.getHeight() == balanced, name + ": height " + result.getHeight() + ", expected " + balanced);
+		if (!expected.isEmpty()) {
+			String middle = result.select(expected.size() / 2);
+			check(middle.equals(new ArrayList<String>(expected).get(expected.size() / 2)),
+					name + ": select of the result differs");
+		}
+	}
+
+	/**
+	 * Checks that iterating a view, twice, gives exactly the expected words.
+	 */
+	private static void checkView(String name, Iterable<String> view, Collection<String> expected) {
+		List<String> words = new ArrayList<String>(expected);
+		for (int pass = 0; pass < 2; pass++) {
+			List<String> iterated = new ArrayList<String>();
+			for (String word : view)
+				iterated.add(word);
+			check(iterated.equals(words), name + ": " + iterated + ", expected " + words);
+		}
+	}
+
+	/**
+	 * Checks select at every position, and rank of every vocabulary word, against
+	 * the sorted words.
+	 */
+	private static void checkOrderStatistics(String name, IntFunction<String> select, ToIntFunction<String> rank,
+			ArrayList<String> words, List<String> vocabulary) {
+		for (int k = 0; k < words.size(); k++)
+			check(select.apply(k).equals(words.get(k)), name + ": select(" + k + ") " + select.apply(k)
+					+ ", expected " + words.get(k));
+		checkThrows(IndexOutOfBoundsException.class, () -> select.apply(words.size()),
+				name + ": select(size())");
+		checkThrows(IndexOutOfBoundsException.class, () -> select.apply(-1), name + ": select(-1)");
+
+		for (String word : vocabulary) {
+			int index = Collections.binarySearch(words, word);
+			int expected = index >= 0 ? index : -(index + 1);
+			check(rank.applyAsInt(word) == expected, name + ": rank(" + word + ") " + rank.applyAsInt(word)
+					+ ", expected " + expected);
+		}
+	}
+
+	/**
+	 * Checks that a height is possible for a tree of n nodes: at least that of a
+	 * perfectly balanced tree, and at most about 1.44 log2(n) for an AVL tree and
+	 * n - 1 for a plain one.
+	 */
+	private static void checkHeight(String name, int height, int n, boolean selfBalancing) {
+		if (n == 0) {
+			check(height == -1, name + ": height " + height + " of an empty tree");
+			return;
+		}
+
+		int lowest = 31 - Integer.numberOfLeadingZeros(n);
+		int highest = selfBalancing ? (int) Math.floor(1.45 * Math.log(n + 2) / Math.log(2)) : n - 1;
+		check(height >= lowest && height <= highest, name + ": height " + height + " for " + n + " nodes, expected "
+				+ lowest + " to " + highest);
+	}
+
+	/**
+	 * Returns a random list of up to 30 vocabulary words, sometimes sorted (which
+	 * takes the bulk-load path of an empty tree), possibly with duplicates.
+	 */
+	private static List<String> randomWords(List<String> vocabulary, Random random) {
+		int count = random.nextInt(31);
+		List<String> words = new ArrayList<String>(count);
+		for (int i = 0; i < count; i++)
+			words.add(vocabulary.get(random.nextInt(vocabulary.size())));
+		if (random.nextBoolean())
+			words.sort(null);
+		return words;
+	}
+
+	/**
+	 * Returns a list of distinct random words, including the empty word, many of
+	 * them sharing a prefix with another.
+	 */
+	private static List<String> randomVocabulary(Random random, int count) {
+		TreeSet<String> words = new TreeSet<String>();
+		words.add("");
+		List<String> drawn = new ArrayList<String>();
+
+		while (words.size() < count) {
+			StringBuilder word = new StringBuilder();
+			if (!drawn.isEmpty() && random.nextBoolean()) {
+				String other = drawn.get(random.nextInt(drawn.size()));
+				word.append(other, 0, random.nextInt(other.length() + 1));
+			}
+			int length = random.nextInt(12);
+			for (int i = 0; i < length; i++) {
+				String characters = random.nextInt(RARE_ODDS) == 0 ? RARE : ALPHABET;
+				word.append(characters.charAt(random.nextInt(characters.length())));
+			}
+
+			if (words.add(word.toString()))
+				drawn.add(word.toString());
+		}
+
+		Collections.shuffle(drawn, random);
+		drawn.add("");
+		return drawn;
+	}
+
+	private static void checkThrows(Class<? extends RuntimeException> type, Runnable call, String name) {
+		try {
+			call.run();
+		}
+		catch(RuntimeException e) {
+			check(type.isInstance(e), name + " threw " + e + ", expected " + type.getSimpleName());
+			return;
+		}
+		throw new AssertionError(name + " did not throw " + type.getSimpleName());
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
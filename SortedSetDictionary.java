@@ -0,0 +1,189 @@
+package assign08;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Adapts a SortedSet of Strings (e.g., a BinarySearchTree) to the WordDictionary
+ * interface, for when ordered operations such as first(), last(), and
+ * toArrayList() are needed alongside spell-checking.
+ * 
+ * A PersistentBinarySearchTree never changes, so a dictionary over one changes
+ * by switching to the new version that insert, insertAll, delete, or deleteAll
+ * returns; getSortedSet returns the current version. Each change, update
+ * included, switches versions at once, so readers see it whole.
+ * 
+ * @version October 18, 2026
+ */
+public class SortedSetDictionary implements WordDictionary {
+
+	// replaced by each change when it is a PersistentBinarySearchTree
+	private volatile SortedSet<String> words;
+
+	/**
+	 * Creates a dictionary backed by the given sorted set. Changes made through
+	 * either one are visible through the other (except for a
+	 * PersistentBinarySearchTree, which never changes; see above).
+	 * 
+	 * @param words - the sorted set holding the dictionary's words
+	 */
+	public SortedSetDictionary(SortedSet<String> words) {
+		this.words = words;
+	}
+
+	/**
+	 * @return the sorted set backing this dictionary
+	 */
+	public SortedSet<String> getSortedSet() {
+		return words;
+	}
+
+	@Override
+	public boolean add(String word) {
+		PersistentBinarySearchTree<String> version = persistentVersion();
+		if (version != null)
+			return switchTo(version, version.insert(word));
+
+		return words.add(word);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends String> words) {
+		PersistentBinarySearchTree<String> version = persistentVersion();
+		if (version != null)
+			return switchTo(version, version.insertAll(words));
+
+		return this.words.addAll(words);
+	}
+
+	@Override
+	public boolean contains(String word) {
+		return words.contains(word);
+	}
+
+	/**
+	 * Looks the word up without creating a String when the sorted set is a
+	 * DawgSortedSet, which can walk the characters directly, or one of the binary
+	 * search trees (BinarySearchTree, ArrayBinarySearchTree, or
+	 * PersistentBinarySearchTree), which compare the characters with the words in
+	 * their nodes. Any other sorted set is given a new String.
+	 */
+	@Override
+	public boolean contains(char[] chars, int offset, int length) {
+		SortedSet<String> set = words;
+
+		if (set instanceof DawgSortedSet)
+			return ((DawgSortedSet) set).contains(chars, offset, length);
+		if (set instanceof BinarySearchTree)
+			return ((BinarySearchTree<String>) set).contains(chars, offset, length);
+		if (set instanceof ArrayBinarySearchTree)
+			return ((ArrayBinarySearchTree<String>) set).contains(chars, offset, length);
+		if (set instanceof PersistentBinarySearchTree)
+			return ((PersistentBinarySearchTree<String>) set).contains(chars, offset, length);
+
+		return set.contains(new String(chars, offset, length));
+	}
+
+	@Override
+	public boolean remove(String word) {
+		PersistentBinarySearchTree<String> version = persistentVersion();
+		if (version != null)
+			return switchTo(version, version.delete(word));
+
+		return words.remove(word);
+	}
+
+	@Override
+	public boolean removeAll(Collection<? extends String> words) {
+		PersistentBinarySearchTree<String> version = persistentVersion();
+		if (version != null)
+			return switchTo(version, version.deleteAll(words));
+
+		return this.words.removeAll(words);
+	}
+
+	/**
+	 * Makes the whole change in one new version when the sorted set is a
+	 * PersistentBinarySearchTree, and otherwise removes and then adds as usual.
+	 */
+	@Override
+	public boolean update(Collection<? extends String> additions, Collection<? extends String> removals) {
+		PersistentBinarySearchTree<String> version = persistentVersion();
+		if (version == null)
+			return WordDictionary.super.update(additions, removals);
+
+		PersistentBinarySearchTree<String> next = version;
+		if (removals != null)
+			next = next.deleteAll(removals);
+		if (additions != null)
+			next = next.insertAll(additions);
+		return switchTo(version, next);
+	}
+
+	@Override
+	public int size() {
+		return words.size();
+	}
+
+	/**
+	 * Copies a BinarySearchTree (keeping its kind and balancing), an
+	 * ArrayBinarySearchTree, or a DawgSortedSet by loading its words, in sorted
+	 * order, into a new one. A PersistentBinarySearchTree is shared rather than
+	 * copied, since neither dictionary can change the version they share. Other
+	 * sorted sets cannot be copied.
+	 */
+	@Override
+	public SortedSetDictionary copy() {
+		SortedSet<String> copy;
+
+		if (words instanceof PersistentBinarySearchTree)
+			copy = words;
+		else if (words instanceof BinarySearchTree) {
+			copy = ((BinarySearchTree<String>) words).newEmptyTree();
+			copy.addAll(words.toArrayList());
+		}
+		else if (words instanceof ArrayBinarySearchTree) {
+			copy = new ArrayBinarySearchTree<String>(((ArrayBinarySearchTree<String>) words).isSelfBalancing());
+			copy.addAll(words.toArrayList());
+		}
+		else if (words instanceof DawgSortedSet)
+			copy = new DawgSortedSet(words.toArrayList());
+		else
+			return null;
+
+		return new SortedSetDictionary(copy);
+	}
+
+	/**
+	 * Iterates over the words in sorted order, lazily when the sorted set is itself
+	 * Iterable (as BinarySearchTree and DawgSortedSet are), and otherwise over a
+	 * copy made by toArrayList().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator<String> iterator() {
+		if (words instanceof Iterable)
+			return ((Iterable<String>) words).iterator();
+
+		return words.toArrayList().iterator();
+	}
+
+	/**
+	 * Returns the current version of the sorted set if it is a
+	 * PersistentBinarySearchTree, or null if it is not.
+	 */
+	private PersistentBinarySearchTree<String> persistentVersion() {
+		SortedSet<String> set = words;
+		return set instanceof PersistentBinarySearchTree ? (PersistentBinarySearchTree<String>) set : null;
+	}
+
+	/**
+	 * Switches to a new version of a PersistentBinarySearchTree.
+	 *
+	 * @return true if the new version differs from the old one
+	 */
+	private boolean switchTo(PersistentBinarySearchTree<String> version, PersistentBinarySearchTree<String> next) {
+		words = next;
+		return next != version;
+	}
+}
@@ -2,26 +2,99 @@ package assign08;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
- * Represents a "dictionary" of strings using a binary search tree and offers
- * methods for spell-checking documents.
+ * Represents a "dictionary" of strings and offers methods for spell-checking
+ * documents. Any WordDictionary can back the dictionary; by default it is a
+ * StringHashSet, since spell-checking only needs membership checks. Wrap a
+ * SortedSet (e.g., a BinarySearchTree) in a SortedSetDictionary when ordered
+ * operations on the words are needed as well, and use a ConcurrentDictionary when
+ * words are added or removed while other threads are spell-checking. Wrapping
+ * a slow dictionary in a BloomFilterDictionary makes most misspellings cheap to
+ * reject, and a LayeredDictionary lets many spell checkers share one base
+ * dictionary while each keeps its own additions and removals.
+ * 
+ * Note that reload usually switches the spell checker to an updated copy of its
+ * dictionary rather than changing it (see reload), so after a reload the
+ * dictionary a spell checker was created with may no longer be the one it uses;
+ * getDictionary always returns the current one.
  * 
  * @author Erin Parker, Leonardo Leano, Tristen Kilgrow
  * @version March 22, 2022
  */
 public class SpellChecker {
 
-	private BinarySearchTree<String> dictionary;
+	// largest part of a document mapped into memory at once
+	private static final long MAP_WINDOW_SIZE = 1L << 26;
+
+	// chunks per thread in a parallel check, so that threads finishing early can
+	// pick up more work
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	// most words added or removed since the suggestion graph was built that
+	// suggest looks through on the side; past this, the graph is rebuilt
+	private static final int SUGGESTION_PENDING_LIMIT = 1024;
+
+	// replaced as a whole by reload, unless it is a ConcurrentDictionary (which
+	// changes atomically itself) or cannot be copied
+	private volatile WordDictionary dictionary;
+
+	// number of changes made to the dictionary through this spell checker; each
+	// change counts only once it is complete
+	private final AtomicLong modifications = new AtomicLong();
+
+	// the dictionary's words as a graph for finding suggestions, plus the words
+	// added and removed since, tagged with the number of changes it reflects;
+	// built on first use, kept up to date by changes made through this spell
+	// checker, and rebuilt once too many of them pile up
+	private final AtomicReference<SuggestionIndex> suggestionIndex = new AtomicReference<SuggestionIndex>();
+
+	// null unless metrics have been enabled
+	private volatile SpellCheckerMetrics metrics;
+
+	// cache of verdicts in front of the dictionary, or null for none
+	private volatile LookupCache lookupCache;
 
 	/**
 	 * Default constructor--creates empty dictionary.
 	 */
 	public SpellChecker() {
-		dictionary = new BinarySearchTree<String>();
+		this(new StringHashSet());
+	}
+
+	/**
+	 * Creates a spell checker that uses the given dictionary (which may already
+	 * contain words). A reload may replace it with an updated copy; see
+	 * getDictionary.
+	 * 
+	 * @param dictionary - the WordDictionary to look words up in
+	 */
+	public SpellChecker(WordDictionary dictionary) {
+		this.dictionary = dictionary;
 	}
 
 	/**
@@ -45,13 +118,39 @@ public class SpellChecker {
 		buildDictionary(readFromFile(dictionaryFile));
 	}
 
+	/**
+	 * Creates a spell checker that uses the given dictionary, filled in from a file.
+	 * 
+	 * @param dictionary     - the WordDictionary to look words up in
+	 * @param dictionaryFile - the File that contains Strings used to build the
+	 *                       dictionary
+	 */
+	public SpellChecker(WordDictionary dictionary, File dictionaryFile) {
+		this(dictionary);
+		buildDictionary(readFromFile(dictionaryFile));
+	}
+
+	/**
+	 * Returns the dictionary the spell checker currently uses. This is the
+	 * dictionary it was created with until a reload switches it to an updated
+	 * copy, so hold on to the result only while no reload can happen.
+	 * 
+	 * @return the current WordDictionary
+	 */
+	public WordDictionary getDictionary() {
+		return dictionary;
+	}
+
 	/**
 	 * Add a word to the dictionary.
 	 * 
 	 * @param word - the String to be added to the dictionary
 	 */
-	public void addToDictionary(String word) {
+	public synchronized void addToDictionary(String word) {
 		dictionary.add(word);
+		updateSuggestionIndex(modifications.incrementAndGet(), Collections.singletonList(word),
+				Collections.emptyList());
+		invalidate(word);
 	}
 
 	/**
@@ -59,34 +158,795 @@ public class SpellChecker {
 	 * 
 	 * @param word - the String to be removed from the dictionary
 	 */
-	public void removeFromDictionary(String word) {
+	public synchronized void removeFromDictionary(String word) {
 		dictionary.remove(word);
+		updateSuggestionIndex(modifications.incrementAndGet(), Collections.emptyList(),
+				Collections.singletonList(word));
+		invalidate(word);
+	}
+
+	/**
+	 * Brings the dictionary up to date with a (changed) dictionary file, adding
+	 * and removing only the words that differ rather than rebuilding it. The
+	 * change is atomic for concurrent spell-checks, which see the dictionary either
+	 * entirely before or entirely after it:
+	 * 
+	 * - a ConcurrentDictionary finds and applies the differences in a single
+	 *   change (see ConcurrentDictionary.updateTo);
+	 * - any other dictionary is copied (see WordDictionary.copy), the file's words
+	 *   are sorted and merged against the dictionary's words in sorted order to
+	 *   find the differences, these are applied to the copy, and the spell checker
+	 *   then switches to the copy (a SortedSetDictionary over a
+	 *   PersistentBinarySearchTree shares its current version as the copy and
+	 *   switches to a new version). A dictionary that cannot be copied is changed
+	 *   in place, and must not be in use while it is reloaded.
+	 * 
+	 * After a switch, the dictionary the spell checker was created with (or that
+	 * getDictionary returned before) is left unchanged and no longer used: call
+	 * getDictionary again to reach the current one. Spell-checks still running
+	 * keep reading the old dictionary, but no longer put their verdicts in the
+	 * LookupCache.
+	 * 
+	 * Changes made through this spell checker (addToDictionary and
+	 * removeFromDictionary) wait for a reload to finish.
+	 * 
+	 * @param dictionaryFile - the File that contains the Strings the dictionary
+	 *                       should hold
+	 * @return the words added and removed, and the time taken
+	 * @throws IOException if the file cannot be read (the dictionary is then left
+	 *                     unchanged)
+	 */
+	public synchronized DictionaryDelta reload(File dictionaryFile) throws IOException {
+		long start = System.nanoTime();
+
+		List<String> newWords = sortedDistinct(tokenizeFile(dictionaryFile));
+		WordDictionary current = dictionary;
+		List<String> additions = new ArrayList<String>();
+		List<String> removals = new ArrayList<String>();
+
+		if (current instanceof ConcurrentDictionary) {
+			((ConcurrentDictionary) current).updateTo(newWords, additions, removals);
+			removals.sort(null);
+		}
+		else {
+			List<String> currentWords = new ArrayList<String>(current.size());
+			for (String word : current)
+				currentWords.add(word);
+			//A SortedSetDictionary already iterates in order; anything else is sorted here
+			if (!(current instanceof SortedSetDictionary))
+				currentWords.sort(null);
+
+			int i = 0;
+			int j = 0;
+
+			while (i < newWords.size() || j < currentWords.size()) {
+				int comparison;
+				if (i == newWords.size())
+					comparison = 1;
+				else if (j == currentWords.size())
+					comparison = -1;
+				else
+					comparison = newWords.get(i).compareTo(currentWords.get(j));
+
+				if (comparison < 0)
+					additions.add(newWords.get(i++));
+				else if (comparison > 0)
+					removals.add(currentWords.get(j++));
+				else {
+					i++;
+					j++;
+				}
+			}
+
+			if (!additions.isEmpty() || !removals.isEmpty()) {
+				WordDictionary replacement = current.copy();
+
+				if (replacement == null)
+					current.update(additions, removals);
+				else {
+					replacement.update(additions, removals);
+					dictionary = replacement;
+
+					SpellCheckerMetrics currentMetrics = metrics;
+					if (currentMetrics != null)
+						currentMetrics.attach(treeOf(replacement));
+				}
+			}
+		}
+
+		if (!additions.isEmpty() || !removals.isEmpty()) {
+			updateSuggestionIndex(modifications.incrementAndGet(), additions, removals);
+			for (String word : additions)
+				invalidate(word);
+			for (String word : removals)
+				invalidate(word);
+		}
+
+		return new DictionaryDelta(additions, removals, System.nanoTime() - start);
+	}
+
+	/**
+	 * Writes the dictionary to a binary snapshot file (see DictionarySnapshot),
+	 * which loads much faster than a text file: pass DictionarySnapshot.read(file)
+	 * to SpellChecker(List) or to a WordDictionary's addAll.
+	 * 
+	 * @param snapshotFile - the File to be written
+	 * @throws IOException if the file cannot be written
+	 */
+	public void saveSnapshot(File snapshotFile) throws IOException {
+		DictionarySnapshot.write(dictionary, snapshotFile);
+	}
+
+	/**
+	 * Suggests corrections for a word: up to k dictionary words within the given
+	 * edit distance (insertions, deletions, substitutions, and swaps of adjacent
+	 * characters), nearest first and then alphabetically.
+	 * 
+	 * The first call builds a DawgSortedSet of the dictionary's words to search;
+	 * later calls reuse it. Words added and removed through this spell checker
+	 * (addToDictionary, removeFromDictionary, and reload) are kept beside the
+	 * graph and looked through directly, so a change costs about as much as the
+	 * words changed; the graph is rebuilt, by the next call, only once more than
+	 * 1024 words have changed. An index built while the
+	 * dictionary is being changed serves only the call that built it.
+	 * 
+	 * @param word        - the word to find corrections for
+	 * @param maxDistance - the largest edit distance allowed
+	 * @param k           - the maximum number of suggestions
+	 * @return a List of suggested words
+	 * @throws IllegalArgumentException if maxDistance or k is negative
+	 */
+	public List<String> suggest(String word, int maxDistance, int k) {
+		DawgSortedSet.checkClosestArguments(maxDistance, k);
+
+		//Read the count before the words, so that an index built while the
+		//dictionary changes is tagged as out of date
+		long version = modifications.get();
+		SuggestionIndex index = suggestionIndex.get();
+
+		if (index == null || index.version != version) {
+			WordDictionary current = dictionary;
+			ArrayList<String> words = new ArrayList<String>(current.size());
+			for (String w : current)
+				words.add(w);
+
+			SuggestionIndex built = new SuggestionIndex(version, new DawgSortedSet(words), new StringHashSet(),
+					new StringHashSet());
+
+			//Publish it only if the dictionary did not change while it was built and
+			//no other thread published one meanwhile; otherwise it serves this call only
+			if (modifications.get() == version)
+				suggestionIndex.compareAndSet(index, built);
+			index = built;
+		}
+
+		return index.closest(word, maxDistance, k);
+	}
+
+	/**
+	 * Starts recording metrics (counters and latency histograms) for every
+	 * spell-check, or returns the metrics already being recorded. Recording costs
+	 * two clock reads per dictionary lookup; while metrics are disabled, nothing
+	 * is recorded and nothing is paid.
+	 * 
+	 * @return the metrics, which are updated as documents are checked
+	 */
+	public synchronized SpellCheckerMetrics enableMetrics() {
+		SpellCheckerMetrics current = metrics;
+
+		if (current == null) {
+			current = new SpellCheckerMetrics(treeOf(dictionary));
+			metrics = current;
+		}
+
+		return current;
+	}
+
+	/**
+	 * Stops recording metrics, including the lookup statistics of a
+	 * BinarySearchTree behind the dictionary.
+	 */
+	public synchronized void disableMetrics() {
+		SpellCheckerMetrics current = metrics;
+
+		if (current != null) {
+			metrics = null;
+			current.detach();
+		}
+	}
+
+	/**
+	 * Returns the metrics being recorded, or null if metrics are disabled.
+	 */
+	public SpellCheckerMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Puts a cache of verdicts in front of the dictionary, so that words that recur
+	 * (correct or not) are looked up in the dictionary only once while they stay
+	 * cached. This pays off when dictionary lookups are expensive, e.g., for a
+	 * BinarySearchTree. The cache is invalidated by addToDictionary and
+	 * removeFromDictionary; if the dictionary is changed directly, call the
+	 * cache's invalidate or clear.
+	 * 
+	 * @param cache - the LookupCache to use, or null to stop caching
+	 */
+	public void setLookupCache(LookupCache cache) {
+		if (cache != null)
+			cache.clear();
+		lookupCache = cache;
+	}
+
+	/**
+	 * Returns the cache in front of the dictionary (whose hit rate can be read),
+	 * or null if there is none.
+	 */
+	public LookupCache getLookupCache() {
+		return lookupCache;
 	}
 
 	/**
 	 * Spell-checks a document against the dictionary.
 	 * 
+	 * The file is memory-mapped and divided into words directly on its bytes, so
+	 * the document is never decoded into characters as a whole, and each word is
+	 * looked up by its characters (WordDictionary.contains(char[], int, int)). For
+	 * the dictionaries in this package, including a SortedSetDictionary over any
+	 * of its trees or a DawgSortedSet, no String is then created for a word that is
+	 * found in the dictionary (unless a LookupCache is storing it); only misspelled
+	 * words are materialized. Since letters are ASCII, this gives the same words as
+	 * reading the file as text in UTF-8 or any other ASCII-compatible encoding.
+	 * 
 	 * @param document_file - the File that contains Strings to be looked up in the
 	 *                      dictionary
 	 * @return a List of misspelled words
 	 */
 	public List<String> spellCheck(File documentFile) {
 
-		List<String> wordsToCheck = readFromFile(documentFile);
 		List<String> misspelledWords = new ArrayList<String>();
 
-		for (String el : wordsToCheck)
-		{
-			boolean containsOrNot = dictionary.contains(el);
-			
-			if (containsOrNot == false)
-				misspelledWords.add(el);
-				
+		try (FileChannel document = FileChannel.open(documentFile.toPath(), StandardOpenOption.READ)) {
+			DocumentCheck check = new DocumentCheck();
+			spellCheckMapped(document, 0, document.size(), check, misspelledWords::add);
+			check.finish();
+		}
+		catch(NoSuchFileException e) {
+			System.err.println("File " + documentFile + " cannot be found.");
+		}
+		catch(IOException e) {
+			System.err.println("File " + documentFile + " cannot be read.");
 		}
 
 		return misspelledWords;
 	}
 
+	/**
+	 * Spell-checks a document against the dictionary using several threads. The
+	 * document is divided into chunks at word boundaries, the chunks are checked in
+	 * parallel against the (read-only) dictionary, and the misspelled words found
+	 * in each chunk are joined in document order, so the result is the same as for
+	 * spellCheck(File). Every chunk is checked against the same version of the
+	 * dictionary, even if it is reloaded (or, for a ConcurrentDictionary, changed)
+	 * meanwhile; any other dictionary must not be changed in place during the
+	 * check.
+	 * 
+	 * @param documentFile - the File that contains Strings to be looked up in the
+	 *                     dictionary
+	 * @param threads      - the number of threads to use
+	 * @return a List of misspelled words
+	 * @throws IllegalArgumentException if threads is less than 1
+	 * @throws CancellationException if the calling thread is interrupted during
+	 *                               the check (its interrupt status is set again)
+	 */
+	public List<String> spellCheck(File documentFile, int threads) {
+
+		if (threads < 1)
+			throw new IllegalArgumentException("Thread count must be at least 1, but was " + threads);
+
+		List<String> misspelledWords = new ArrayList<String>();
+		ForkJoinPool pool = new ForkJoinPool(threads);
+
+		try (FileChannel document = FileChannel.open(documentFile.toPath(), StandardOpenOption.READ)) {
+			DocumentCheck check = new DocumentCheck();
+			LongAdder tokenizeNanos = new LongAdder();
+			long[] boundaries = chunkBoundaries(document, threads * CHUNKS_PER_THREAD);
+			List<Callable<List<String>>> chunks = new ArrayList<Callable<List<String>>>();
+
+			for (int i = 0; i + 1 < boundaries.length; i++) {
+				long start = boundaries[i];
+				long end = boundaries[i + 1];
+				chunks.add(() -> {
+					List<String> chunkMisspelledWords = new ArrayList<String>();
+					DocumentCheck chunkCheck = new DocumentCheck(check);
+					spellCheckMapped(document, start, end, chunkCheck, chunkMisspelledWords::add);
+					tokenizeNanos.add(chunkCheck.tokenizeNanos());
+					return chunkMisspelledWords;
+				});
+			}
+
+			for (Future<List<String>> chunk : pool.invokeAll(chunks))
+				misspelledWords.addAll(chunk.get());
+
+			//Tokenizing time is summed over the threads, so it can exceed the elapsed time
+			check.finish(tokenizeNanos.sum());
+		}
+		catch(NoSuchFileException e) {
+			System.err.println("File " + documentFile + " cannot be found.");
+		}
+		catch(ClosedByInterruptException e) {
+			throw interrupted(documentFile, e);
+		}
+		catch(IOException e) {
+			System.err.println("File " + documentFile + " cannot be read.");
+		}
+		catch(ExecutionException e) {
+			//Only a failure to read is reported; anything else a chunk throws propagates,
+			//as it would from spellCheck(File)
+			Throwable cause = e.getCause();
+			if (cause instanceof Error)
+				throw (Error) cause;
+			if (cause instanceof RuntimeException && !(cause instanceof UncheckedIOException))
+				throw (RuntimeException) cause;
+			System.err.println("File " + documentFile + " cannot be read.");
+		}
+		catch(InterruptedException e) {
+			//The unfinished chunks have been cancelled, so there is no complete result
+			throw interrupted(documentFile, e);
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		return misspelledWords;
+	}
+
+	/**
+	 * Sets the interrupt status of the current thread again and returns the
+	 * exception that reports a spell-check of the document as interrupted.
+	 * 
+	 * @param documentFile - the File being checked
+	 * @param cause        - the exception that reported the interrupt
+	 * @return the exception to be thrown
+	 */
+	private static CancellationException interrupted(File documentFile, Exception cause) {
+		Thread.currentThread().interrupt();
+		CancellationException cancelled = new CancellationException("Spell-check of " + documentFile
+				+ " was interrupted.");
+		cancelled.initCause(cause);
+		return cancelled;
+	}
+
+	/**
+	 * Spell-checks a document against the dictionary as it is read, handing each
+	 * misspelled word to the given consumer as soon as it is found. Only the
+	 * current word is held in memory, so documents of any size can be checked.
+	 * The words of the document are the same as for spellCheck(File). The reader
+	 * is not closed.
+	 * 
+	 * @param document          - the Reader supplying the document
+	 * @param misspelledWords   - receives each misspelled word, in document order
+	 * @throws IOException if the document cannot be read
+	 */
+	public void spellCheck(Reader document, Consumer<String> misspelledWords) throws IOException {
+
+		WordTokenizer documentInput = new WordTokenizer(document);
+		DocumentCheck check = new DocumentCheck();
+
+		while (documentInput.nextWord())
+			check.checkWord(documentInput.wordChars(), documentInput.wordLength(), misspelledWords);
+
+		check.finish();
+	}
+
+	/**
+	 * Spell-checks a document held in memory against the dictionary.
+	 * 
+	 * @param document - the text of the document
+	 * @return a List of misspelled words
+	 */
+	public List<String> spellCheck(CharSequence document) {
+		return spellCheck(Collections.singletonList(document)).get(0);
+	}
+
+	/**
+	 * Spell-checks many documents held in memory against the dictionary in one
+	 * pass. One tokenizer is reused for every document, and each distinct word is
+	 * looked up in the dictionary only once per batch: the verdicts are remembered
+	 * (in small sets that stay in cache), and a word that is misspelled in several
+	 * documents is reported as the same String each time.
+	 * 
+	 * @param documents - the texts of the documents
+	 * @return a List holding, for each document in iteration order, the List of
+	 *         its misspelled words
+	 */
+	public List<List<String>> spellCheck(Collection<? extends CharSequence> documents) {
+
+		List<List<String>> results = new ArrayList<List<String>>(documents.size());
+		WordTokenizer tokenizer = new WordTokenizer("");
+		StringHashSet correctWords = new StringHashSet();
+		StringHashSet misspelledWords = new StringHashSet();
+
+		try {
+			for (CharSequence document : documents) {
+				List<String> documentMisspelledWords = new ArrayList<String>();
+				DocumentCheck check = new DocumentCheck();
+				tokenizer.reset(document);
+
+				while (tokenizer.nextWord()) {
+					char[] word = tokenizer.wordChars();
+					int length = tokenizer.wordLength();
+
+					if (correctWords.contains(word, 0, length)) {
+						check.knownWord(true);
+						continue;
+					}
+
+					String misspelled = misspelledWords.get(word, 0, length);
+					if (misspelled == null) {
+						if (check.isKnown(word, length)) {
+							correctWords.add(new String(word, 0, length));
+							continue;
+						}
+						misspelled = new String(word, 0, length);
+						misspelledWords.add(misspelled);
+					}
+					else
+						check.knownWord(false);
+					documentMisspelledWords.add(misspelled);
+				}
+
+				check.finish();
+				results.add(documentMisspelledWords);
+			}
+		}
+		catch(IOException e) {
+			//Reading from a CharSequence never fails
+			throw new UncheckedIOException(e);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Spell-checks the bytes [start, end) of a document, mapping them into memory
+	 * a window at a time (a single mapping is limited to 2GB). A word that straddles
+	 * two windows is carried over in the word buffer.
+	 * 
+	 * @param document        - the channel of the document
+	 * @param start           - position of the first byte to check
+	 * @param end             - position just past the last byte to check
+	 * @param check           - looks up the words
+	 * @param misspelledWords - receives each misspelled word, in document order
+	 * @throws IOException if the document cannot be mapped
+	 */
+	private void spellCheckMapped(FileChannel document, long start, long end, DocumentCheck check,
+			Consumer<String> misspelledWords) throws IOException {
+
+		char[] word = new char[32];
+		int wordLength = 0;
+
+		for (long windowStart = start; windowStart < end; windowStart += MAP_WINDOW_SIZE) {
+			int windowSize = (int) Math.min(MAP_WINDOW_SIZE, end - windowStart);
+			MappedByteBuffer window = document.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+
+			for (int i = 0; i < windowSize; i++) {
+				//Bytes of multi-byte characters are negative, so they never look like letters
+				int lower = window.get(i) | 0x20;
+
+				if (lower >= 'a' && lower <= 'z') {
+					if (wordLength == word.length)
+						word = Arrays.copyOf(word, wordLength * 2);
+					word[wordLength++] = (char) lower;
+				}
+				else if (wordLength > 0) {
+					check.checkWord(word, wordLength, misspelledWords);
+					wordLength = 0;
+				}
+			}
+		}
+
+		if (wordLength > 0)
+			check.checkWord(word, wordLength, misspelledWords);
+	}
+
+	/**
+	 * Divides a document into roughly equal chunks whose boundaries never fall
+	 * inside a word: each nominal boundary is moved forward past any letters.
+	 * 
+	 * @param document - the channel of the document
+	 * @param chunks   - the number of chunks wanted
+	 * @return the chunk boundaries, starting at 0 and ending at the document size;
+	 *         chunk i is [boundaries[i], boundaries[i + 1])
+	 * @throws IOException if the document cannot be read
+	 */
+	private static long[] chunkBoundaries(FileChannel document, int chunks) throws IOException {
+		long size = document.size();
+		long[] boundaries = new long[chunks + 1];
+		ByteBuffer probe = ByteBuffer.allocate(64);
+
+		for (int i = 1; i < chunks; i++) {
+			long boundary = Math.max(boundaries[i - 1], size / chunks * i);
+
+			//Skip forward until the byte at the boundary is not a letter
+			scan:
+			while (boundary < size) {
+				probe.clear();
+				int read = document.read(probe, boundary);
+				for (int j = 0; j < read; j++) {
+					int lower = probe.get(j) | 0x20;
+					if (lower < 'a' || lower > 'z')
+						break scan;
+					boundary++;
+				}
+			}
+
+			boundaries[i] = boundary;
+		}
+
+		boundaries[chunks] = size;
+		return boundaries;
+	}
+
+	/**
+	 * The lookups of one document (or one chunk of a document). When metrics are
+	 * enabled, it times each lookup, so that the time spent dividing the document
+	 * into words can be told apart from the time spent looking them up; when they
+	 * are disabled, it only looks words up.
+	 */
+	private final class DocumentCheck {
+
+		// the metrics when the check started, so that a check is recorded whole
+		private final SpellCheckerMetrics metrics;
+
+		private final LookupCache cache;
+
+		// the cache's stamp from before the dictionary was captured: verdicts are
+		// cached only while no word has been invalidated since, so a check that is
+		// still reading an old version never caches what the old version says
+		private final long cacheStamp;
+
+		// the dictionary when the check started, so that a check sees one version
+		// of it even if it is reloaded or changed meanwhile
+		private final WordDictionary dictionary;
+
+		private final long startNanos;
+
+		private long lookupNanos;
+
+		/**
+		 * Starts the check of a document.
+		 */
+		DocumentCheck() {
+			metrics = SpellChecker.this.metrics;
+			cache = lookupCache;
+			cacheStamp = cache == null ? 0 : cache.stamp();
+
+			//A ConcurrentDictionary changes in place, so read from its current snapshot
+			WordDictionary current = SpellChecker.this.dictionary;
+			dictionary = current instanceof ConcurrentDictionary ? ((ConcurrentDictionary) current).copy() : current;
+			startNanos = metrics == null ? 0 : System.nanoTime();
+		}
+
+		/**
+		 * Starts the check of one chunk of a document, sharing the metrics, cache,
+		 * and dictionary of the document's check, so that every chunk sees the same
+		 * version of the dictionary. Only the timing is the chunk's own.
+		 * 
+		 * @param document - the check of the whole document
+		 */
+		DocumentCheck(DocumentCheck document) {
+			metrics = document.metrics;
+			cache = document.cache;
+			cacheStamp = document.cacheStamp;
+			dictionary = document.dictionary;
+			startNanos = metrics == null ? 0 : System.nanoTime();
+		}
+
+		/**
+		 * Looks up the word held in word[0 .. length) and, if it is misspelled,
+		 * creates a String for it and hands it to misspelledWords.
+		 * 
+		 * @param word            - the buffer holding the (lower-case) word
+		 * @param length          - the number of characters in the word
+		 * @param misspelledWords - receives the word if it is misspelled
+		 */
+		void checkWord(char[] word, int length, Consumer<String> misspelledWords) {
+			if (!isKnown(word, length))
+				misspelledWords.accept(new String(word, 0, length));
+		}
+
+		/**
+		 * Returns true if the word held in word[0 .. length) is in the dictionary.
+		 */
+		boolean isKnown(char[] word, int length) {
+			if (cache == null)
+				return lookUp(word, length);
+
+			Boolean cached = cache.get(word, 0, length);
+			if (cached != null) {
+				knownWord(cached);
+				return cached;
+			}
+
+			boolean known = lookUp(word, length);
+			cache.put(new String(word, 0, length), known, cacheStamp);
+			return known;
+		}
+
+		/**
+		 * Looks the word held in word[0 .. length) up in the dictionary.
+		 */
+		private boolean lookUp(char[] word, int length) {
+			if (metrics == null)
+				return dictionary.contains(word, 0, length);
+
+			long lookupStart = System.nanoTime();
+			boolean known = dictionary.contains(word, 0, length);
+			long nanos = System.nanoTime() - lookupStart;
+
+			lookupNanos += nanos;
+			metrics.recordLookup(nanos, known);
+			return known;
+		}
+
+		/**
+		 * Counts a word whose verdict was known without a lookup.
+		 */
+		void knownWord(boolean known) {
+			if (metrics != null)
+				metrics.recordToken(known);
+		}
+
+		/**
+		 * Returns the time spent so far other than in lookups.
+		 */
+		long tokenizeNanos() {
+			return metrics == null ? 0 : System.nanoTime() - startNanos - lookupNanos;
+		}
+
+		/**
+		 * Records the document as checked.
+		 */
+		void finish() {
+			finish(tokenizeNanos());
+		}
+
+		/**
+		 * Records the document as checked, with the given time spent dividing it
+		 * into words.
+		 */
+		void finish(long tokenizeNanos) {
+			if (metrics != null)
+				metrics.recordDocument(System.nanoTime() - startNanos, tokenizeNanos);
+		}
+	}
+
+	/**
+	 * A suggestion index and the number of dictionary changes it reflects: a
+	 * graph of the words, the words added since it was built (none of them in the
+	 * graph), and the words of the graph removed since. It is never changed once
+	 * published; a change makes a new index sharing the graph.
+	 */
+	private static final class SuggestionIndex {
+
+		private final long version;
+
+		private final DawgSortedSet words;
+
+		private final StringHashSet added;
+
+		private final StringHashSet removed;
+
+		private SuggestionIndex(long version, DawgSortedSet words, StringHashSet added, StringHashSet removed) {
+			this.version = version;
+			this.words = words;
+			this.added = added;
+			this.removed = removed;
+		}
+
+		/**
+		 * Returns an index with the given change made, or null if the change would
+		 * leave more words beside the graph than SUGGESTION_PENDING_LIMIT. A change
+		 * already reflected in the graph is harmless.
+		 */
+		private SuggestionIndex changed(long version, Collection<String> additions, Collection<String> removals) {
+			if ((long) added.size() + removed.size() + additions.size() + removals.size() > SUGGESTION_PENDING_LIMIT)
+				return null;
+
+			StringHashSet newAdded = added.copy();
+			StringHashSet newRemoved = removed.copy();
+
+			for (String word : removals) {
+				newAdded.remove(word);
+				if (words.contains(word))
+					newRemoved.add(word);
+			}
+			for (String word : additions) {
+				newRemoved.remove(word);
+				if (!words.contains(word))
+					newAdded.add(word);
+			}
+
+			return new SuggestionIndex(version, words, newAdded, newRemoved);
+		}
+
+		/**
+		 * Returns up to k words closest to the given word, as
+		 * DawgSortedSet.closest does for the words of this index.
+		 */
+		private List<String> closest(String word, int maxDistance, int k) {
+			if (added.size() == 0 && removed.size() == 0)
+				return words.closest(word, maxDistance, k);
+
+			//Ask the graph for enough extra words to make up for removed ones
+			List<String> graphWords = words.closest(word, maxDistance, (int) Math.min(Integer.MAX_VALUE,
+					(long) k + removed.size()));
+			ArrayList<ArrayList<String>> byDistance = new ArrayList<ArrayList<String>>();
+
+			for (String w : graphWords)
+				if (!removed.contains(w))
+					addByDistance(byDistance, w, DawgSortedSet.distance(word, w));
+			for (String w : added) {
+				int distance = DawgSortedSet.distance(word, w);
+				if (distance <= maxDistance)
+					addByDistance(byDistance, w, distance);
+			}
+
+			ArrayList<String> closest = new ArrayList<String>();
+			for (ArrayList<String> group : byDistance) {
+				group.sort(null);
+				for (String w : group)
+					if (closest.size() < k)
+						closest.add(w);
+			}
+
+			return closest;
+		}
+
+		private static void addByDistance(ArrayList<ArrayList<String>> byDistance, String word, int distance) {
+			while (byDistance.size() <= distance)
+				byDistance.add(new ArrayList<String>());
+			byDistance.get(distance).add(word);
+		}
+	}
+
+	/**
+	 * Returns the BinarySearchTree behind a dictionary, or null if it is not one.
+	 */
+	private static BinarySearchTree<?> treeOf(WordDictionary dictionary) {
+		if (dictionary instanceof SortedSetDictionary
+				&& ((SortedSetDictionary) dictionary).getSortedSet() instanceof BinarySearchTree)
+			return (BinarySearchTree<?>) ((SortedSetDictionary) dictionary).getSortedSet();
+
+		return null;
+	}
+
+	/**
+	 * Makes a change just counted in modifications in the published suggestion
+	 * index, if it reflects the change before (otherwise it is out of date
+	 * anyway, and is rebuilt by the next suggest). Callers hold the lock, so
+	 * changes are made in order.
+	 * 
+	 * @param version   - the number of changes, this one included
+	 * @param additions - the words added
+	 * @param removals  - the words removed
+	 */
+	private void updateSuggestionIndex(long version, Collection<String> additions, Collection<String> removals) {
+		SuggestionIndex index = suggestionIndex.get();
+		if (index != null && index.version == version - 1)
+			suggestionIndex.compareAndSet(index, index.changed(version, additions, removals));
+	}
+
+	/**
+	 * Forgets the cached verdict for a word that was added or removed.
+	 */
+	private void invalidate(String word) {
+		LookupCache cache = lookupCache;
+		if (cache != null)
+			cache.invalidate(word);
+	}
+
 	/**
 	 * Fills in the dictionary with the input list of words.
 	 * 
@@ -105,38 +965,56 @@ public class SpellChecker {
 	 * @return a List of the Strings in the input file
 	 */
 	private List<String> readFromFile(File file) {
-		ArrayList<String> words = new ArrayList<String>();
-
 		try {
-			/*
-			 * Java's Scanner class is a simple lexer for Strings and primitive types (see
-			 * the Java API, if you are unfamiliar).
-			 */
-			Scanner fileInput = new Scanner(file);
-
-			/*
-			 * The scanner can be directed how to delimit (or divide) the input. By default,
-			 * it uses whitespace as the delimiter. The following statement specifies
-			 * anything other than alphabetic characters as a delimiter (so that punctuation
-			 * and such will be ignored). The string argument is a regular expression that
-			 * specifies "anything but an alphabetic character". You need not understand any
-			 * of this for the assignment.
-			 */
-			fileInput.useDelimiter("\\s*[^a-zA-Z]\\s*");
-
-			while (fileInput.hasNext()) {
-				String s = fileInput.next();
-				if (!s.equals("")) 
-					words.add(s.toLowerCase());
-			}
-			
-			fileInput.close();
-
-		} 
+			return tokenizeFile(file);
+		}
 		catch(FileNotFoundException e) {
 			System.err.println("File " + file + " cannot be found.");
 		}
+		catch(IOException e) {
+			System.err.println("File " + file + " cannot be read.");
+		}
+
+		return new ArrayList<String>();
+	}
+
+	/**
+	 * Returns a list of the words contained in the specified file, as
+	 * readFromFile does, but reports failure to the caller.
+	 * 
+	 * @param file - the File to be read
+	 * @return a List of the Strings in the input file
+	 * @throws IOException if the file cannot be read
+	 */
+	private static List<String> tokenizeFile(File file) throws IOException {
+		ArrayList<String> words = new ArrayList<String>();
+
+		try (Reader fileInput = new FileReader(file)) {
+			WordTokenizer tokenizer = new WordTokenizer(fileInput);
+			String word;
+
+			while ((word = tokenizer.next()) != null)
+				words.add(word);
+		}
+
+		return words;
+	}
+
+	/**
+	 * Sorts a list of words and removes the duplicates, in place.
+	 * 
+	 * @param words - the words to be sorted
+	 * @return the same list
+	 */
+	private static List<String> sortedDistinct(List<String> words) {
+		words.sort(null);
+
+		int distinct = 0;
+		for (int i = 0; i < words.size(); i++)
+			if (distinct == 0 || !words.get(distinct - 1).equals(words.get(i)))
+				words.set(distinct++, words.get(i));
 
+		words.subList(distinct, words.size()).clear();
 		return words;
 	}
 }
@@ -0,0 +1,241 @@
+package assign08;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms describing the work of a SpellChecker, for
+ * monitoring it in production. A SpellChecker records metrics only after
+ * enableMetrics() is called; until then its hot paths skip them entirely.
+ *
+ * Every word of a document is a token, counted as a hit (found in the
+ * dictionary) or a miss. Three durations are recorded:
+ *
+ *   lookup   - each dictionary lookup
+ *   tokenize - for each document, the time spent dividing it into words, i.e.
+ *              the time spent checking it less the time spent in lookups
+ *   document - each check of a whole document, from start to finish
+ *
+ * If the dictionary is a BinarySearchTree (in a SortedSetDictionary), its height
+ * and the number of comparisons its lookups make are reported as well.
+ *
+ * All methods are safe to call while other threads are spell-checking.
+ *
+ * @version October 18, 2026
+ */
+public class SpellCheckerMetrics {
+
+	private final LongAdder documents = new LongAdder();
+
+	private final LongAdder tokens = new LongAdder();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LatencyHistogram lookupLatency = new LatencyHistogram();
+
+	private final LatencyHistogram tokenizeLatency = new LatencyHistogram();
+
+	private final LatencyHistogram documentLatency = new LatencyHistogram();
+
+	// the tree behind the dictionary, or null if it is not a BinarySearchTree;
+	// replaced when the SpellChecker switches to a reloaded copy of it
+	private volatile BinarySearchTree<?> tree;
+
+	/**
+	 * Creates empty metrics.
+	 *
+	 * @param tree - the BinarySearchTree behind the dictionary, whose statistics
+	 *             should be enabled, or null
+	 */
+	SpellCheckerMetrics(BinarySearchTree<?> tree) {
+		this.tree = tree;
+		if (tree != null)
+			tree.enableStatistics();
+	}
+
+	/**
+	 * Records a word that was looked up in the dictionary.
+	 *
+	 * @param nanos - the duration of the lookup
+	 * @param hit   - true if the word was found
+	 */
+	void recordLookup(long nanos, boolean hit) {
+		lookupLatency.record(nanos);
+		recordToken(hit);
+	}
+
+	/**
+	 * Records a word whose verdict was already known, so that it was not looked
+	 * up again.
+	 *
+	 * @param hit - true if the word is in the dictionary
+	 */
+	void recordToken(boolean hit) {
+		tokens.increment();
+		if (hit)
+			hits.increment();
+	}
+
+	/**
+	 * Records a document that was checked.
+	 *
+	 * @param nanos         - the duration of the whole check
+	 * @param tokenizeNanos - the part of it spent dividing the document into words
+	 */
+	void recordDocument(long nanos, long tokenizeNanos) {
+		documents.increment();
+		documentLatency.record(nanos);
+		tokenizeLatency.record(tokenizeNanos);
+	}
+
+	/**
+	 * Returns the number of documents checked.
+	 */
+	public long getDocumentCount() {
+		return documents.sum();
+	}
+
+	/**
+	 * Returns the number of words checked.
+	 */
+	public long getTokenCount() {
+		return tokens.sum();
+	}
+
+	/**
+	 * Returns the number of words found in the dictionary.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of misspelled words.
+	 */
+	public long getMissCount() {
+		return tokens.sum() - hits.sum();
+	}
+
+	/**
+	 * Returns the fraction of words found in the dictionary (0 if no words were
+	 * checked).
+	 */
+	public double getHitRatio() {
+		long n = tokens.sum();
+		return n == 0 ? 0 : hits.sum() / (double) n;
+	}
+
+	/**
+	 * Returns the number of words checked per second of document checking (0 if
+	 * no documents were checked).
+	 */
+	public double getTokensPerSecond() {
+		long nanos = documentLatency.getTotalNanos();
+		return nanos == 0 ? 0 : tokens.sum() * 1e9 / nanos;
+	}
+
+	/**
+	 * Returns the durations of dictionary lookups.
+	 */
+	public LatencyHistogram getLookupLatency() {
+		return lookupLatency;
+	}
+
+	/**
+	 * Returns, per document, the durations spent dividing it into words.
+	 */
+	public LatencyHistogram getTokenizeLatency() {
+		return tokenizeLatency;
+	}
+
+	/**
+	 * Returns the durations of whole-document checks.
+	 */
+	public LatencyHistogram getDocumentLatency() {
+		return documentLatency;
+	}
+
+	/**
+	 * Returns the height of the BinarySearchTree behind the dictionary, or -1 if
+	 * the dictionary is not a BinarySearchTree (or is empty).
+	 */
+	public int getTreeHeight() {
+		BinarySearchTree<?> current = tree;
+		return current == null ? -1 : current.getHeight();
+	}
+
+	/**
+	 * Returns the number of comparisons made by lookups in the BinarySearchTree
+	 * behind the dictionary (0 if the dictionary is not a BinarySearchTree).
+	 */
+	public long getTreeComparisonCount() {
+		BinarySearchTree<?> current = tree;
+		return current == null ? 0 : current.getComparisonCount();
+	}
+
+	/**
+	 * Returns the mean number of comparisons per lookup in the BinarySearchTree
+	 * behind the dictionary (0 if the dictionary is not a BinarySearchTree).
+	 */
+	public double getMeanTreeComparisons() {
+		BinarySearchTree<?> current = tree;
+		long lookups = current == null ? 0 : current.getLookupCount();
+		return lookups == 0 ? 0 : current.getComparisonCount() / (double) lookups;
+	}
+
+	/**
+	 * Sets every counter and histogram back to zero, the tree's lookup and
+	 * comparison counts included.
+	 */
+	public void reset() {
+		documents.reset();
+		tokens.reset();
+		hits.reset();
+		lookupLatency.reset();
+		tokenizeLatency.reset();
+		documentLatency.reset();
+
+		BinarySearchTree<?> current = tree;
+		if (current != null)
+			current.resetStatistics();
+	}
+
+	/**
+	 * Stops the statistics of the tree behind the dictionary, once the
+	 * SpellChecker has stopped recording these metrics, so that its lookups are
+	 * no longer counted.
+	 */
+	void detach() {
+		BinarySearchTree<?> current = tree;
+		if (current != null)
+			current.disableStatistics();
+	}
+
+	/**
+	 * Moves the tree statistics to the tree behind a reloaded dictionary. The
+	 * counts start over with the new tree.
+	 *
+	 * @param newTree - the BinarySearchTree behind the new dictionary, or null
+	 */
+	void attach(BinarySearchTree<?> newTree) {
+		detach();
+		tree = newTree;
+		if (newTree != null)
+			newTree.enableStatistics();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder summary = new StringBuilder();
+		summary.append(String.format("documents=%d tokens=%d hits=%d misses=%d (%.0f tokens/s)%n", getDocumentCount(),
+				getTokenCount(), getHitCount(), getMissCount(), getTokensPerSecond()));
+		summary.append("lookup:   ").append(lookupLatency).append(System.lineSeparator());
+		summary.append("tokenize: ").append(tokenizeLatency).append(System.lineSeparator());
+		summary.append("document: ").append(documentLatency);
+
+		if (tree != null)
+			summary.append(System.lineSeparator()).append(String.format(
+					"tree: height=%d comparisons/lookup=%.1f", getTreeHeight(), getMeanTreeComparisons()));
+
+		return summary.toString();
+	}
+}
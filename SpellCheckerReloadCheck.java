@@ -0,0 +1,222 @@
+package assign08;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Checks SpellChecker.reload with every kind of dictionary in the package:
+ *
+ * - a spell-check that started before a reload, and so still looks words up in
+ *   the old dictionary, must not leave its verdicts in the LookupCache (a word the
+ *   reload added was once reported misspelled for good);
+ * - a parallel spell-check must see a single version of the dictionary in every
+ *   chunk, however often it is reloaded meanwhile;
+ * - after a reload, getDictionary returns the dictionary in use, which holds the
+ *   file's words, while a dictionary switched away from is left as it was.
+ *
+ * Usage: java assign08.SpellCheckerReloadCheck [parallelChecks]
+ *
+ * The parallel part runs the given number of checks (default 40) per
+ * dictionary. The check throws an AssertionError (exiting with a nonzero status)
+ * on the first failure.
+ *
+ * @version October 18, 2026
+ */
+public class SpellCheckerReloadCheck {
+
+	public static void main(String[] args) throws Exception {
+		int parallelChecks = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+
+		Map<String, Supplier<WordDictionary>> dictionaries = new LinkedHashMap<String, Supplier<WordDictionary>>();
+		dictionaries.put("StringHashSet", StringHashSet::new);
+		dictionaries.put("ConcurrentDictionary", ConcurrentDictionary::new);
+		dictionaries.put("BinarySearchTree", () -> new SortedSetDictionary(new BinarySearchTree<String>(true)));
+		dictionaries.put("StringBinarySearchTree", () -> new SortedSetDictionary(new StringBinarySearchTree(true)));
+		dictionaries.put("ArrayBinarySearchTree", () -> new SortedSetDictionary(new ArrayBinarySearchTree<String>(true)));
+		dictionaries.put("PersistentBinarySearchTree",
+				() -> new SortedSetDictionary(new PersistentBinarySearchTree<String>()));
+		dictionaries.put("DawgSortedSet", () -> new SortedSetDictionary(new DawgSortedSet()));
+		dictionaries.put("BloomFilterDictionary", () -> new BloomFilterDictionary(new StringHashSet()));
+		dictionaries.put("LayeredDictionary", () -> new LayeredDictionary(new StringHashSet()));
+
+		for (Map.Entry<String, Supplier<WordDictionary>> kind : dictionaries.entrySet()) {
+			checkCacheAcrossReload(kind.getKey(), kind.getValue());
+			checkReloadResult(kind.getKey(), kind.getValue());
+			checkParallelVersion(kind.getKey(), kind.getValue(), parallelChecks);
+			System.out.printf("%-28s ok%n", kind.getKey());
+		}
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Starts a spell-check of a document that blocks before its first word,
+	 * reloads the dictionary with a new word meanwhile, and lets the check finish
+	 * with that word. The check may report the word (it looks words up in the
+	 * dictionary it started with), but a check after it must not.
+	 */
+	private static void checkCacheAcrossReload(String name, Supplier<WordDictionary> kind) throws Exception {
+		WordDictionary dictionary = kind.get();
+		dictionary.addAll(List.of("apple", "banana"));
+		SpellChecker checker = new SpellChecker(dictionary);
+		checker.setLookupCache(new LookupCache(100));
+
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch reloaded = new CountDownLatch(1);
+		Reader blocking = new Reader() {
+			private boolean done;
+
+			@Override
+			public int read(char[] buffer, int offset, int length) throws IOException {
+				if (done)
+					return -1;
+				reading.countDown();
+				try {
+					reloaded.await();
+				}
+				catch(InterruptedException e) {
+					throw new IOException(e);
+				}
+				"kiwi apple ".getChars(0, 11, buffer, offset);
+				done = true;
+				return 11;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<Throwable>();
+		List<String> misspelledDuring = new ArrayList<String>();
+		Thread during = new Thread(() -> {
+			try {
+				checker.spellCheck(blocking, misspelledDuring::add);
+			}
+			catch(Throwable e) {
+				failures.add(e);
+			}
+		});
+		during.start();
+
+		reading.await();
+		checker.reload(DictionaryBenchmark.writeTemporaryFile("apple banana kiwi"));
+		reloaded.countDown();
+		during.join();
+		if (!failures.isEmpty())
+			throw new AssertionError(name + ": spell-check during reload failed", failures.peek());
+
+		check(misspelledDuring.isEmpty() || misspelledDuring.equals(List.of("kiwi")),
+				name + ": check during reload reported " + misspelledDuring);
+		List<String> after = checker.spellCheck("kiwi apple");
+		check(after.isEmpty(), name + ": after reload, " + after + " reported misspelled");
+		after = checker.spellCheck("kiwi");
+		check(after.isEmpty(), name + ": after reload, cached verdict reported " + after + " misspelled");
+	}
+
+	/**
+	 * Reloads twice and checks that getDictionary holds the file's words each
+	 * time, and that a dictionary the spell checker switched away from is
+	 * unchanged.
+	 */
+	private static void checkReloadResult(String name, Supplier<WordDictionary> kind) throws IOException {
+		WordDictionary dictionary = kind.get();
+		dictionary.addAll(List.of("apple", "banana", "cherry"));
+		SpellChecker checker = new SpellChecker(dictionary);
+
+		DictionaryDelta delta = checker.reload(DictionaryBenchmark.writeTemporaryFile("banana cherry date elderberry"));
+		check(delta.getAddedWords().equals(List.of("date", "elderberry")), name + ": added " + delta.getAddedWords());
+		check(delta.getRemovedWords().equals(List.of("apple")), name + ": removed " + delta.getRemovedWords());
+		checkWords(name, checker.getDictionary(), List.of("banana", "cherry", "date", "elderberry"));
+		if (checker.getDictionary() != dictionary)
+			checkWords(name + " (original)", dictionary, List.of("apple", "banana", "cherry"));
+
+		checker.reload(DictionaryBenchmark.writeTemporaryFile("apple"));
+		checkWords(name, checker.getDictionary(), List.of("apple"));
+		check(checker.spellCheck("apple banana").equals(List.of("banana")), name + ": wrong verdicts after reload");
+	}
+
+	/**
+	 * Runs parallel spell-checks of a document made of two word groups while
+	 * another thread keeps reloading the dictionary with one group or the other.
+	 * A check that sees one version reports exactly one whole group misspelled.
+	 */
+	private static void checkParallelVersion(String name, Supplier<WordDictionary> kind, int checks)
+			throws Exception {
+		List<String> first = DictionaryBenchmark.generateWords(200, 1);
+		List<String> second = new ArrayList<String>();
+		for (String word : first)
+			second.add("qz" + word);
+		Set<String> firstSet = new HashSet<String>(first);
+
+		StringBuilder document = new StringBuilder();
+		for (int i = 0; i < 8_000; i++)
+			document.append(i % 2 == 0 ? first.get(i / 2 % first.size()) : second.get(i / 2 % second.size()))
+					.append(' ');
+		File documentFile = DictionaryBenchmark.writeTemporaryFile(document.toString());
+		File firstFile = DictionaryBenchmark.writeTemporaryFile(String.join(" ", first));
+		File secondFile = DictionaryBenchmark.writeTemporaryFile(String.join(" ", second));
+
+		WordDictionary dictionary = kind.get();
+		dictionary.addAll(first);
+		SpellChecker checker = new SpellChecker(dictionary);
+		checker.setLookupCache(new LookupCache(1000));
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<Throwable>();
+		Thread reloader = new Thread(() -> {
+			try {
+				for (int i = 0; running.get(); i++)
+					checker.reload(i % 2 == 0 ? secondFile : firstFile);
+			}
+			catch(Throwable e) {
+				failures.add(e);
+			}
+		});
+		reloader.start();
+
+		try {
+			for (int i = 0; i < checks; i++) {
+				List<String> misspelled = checker.spellCheck(documentFile, 4);
+				check(misspelled.size() == 4_000, name + ": parallel check reported " + misspelled.size()
+						+ " of 4000 words misspelled, mixing dictionary versions");
+				boolean firstMissing = firstSet.contains(misspelled.get(0));
+				for (String word : misspelled)
+					check(firstSet.contains(word) == firstMissing, name + ": parallel check mixed dictionary versions");
+			}
+		}
+		finally {
+			running.set(false);
+			reloader.join();
+		}
+
+		if (!failures.isEmpty())
+			throw new AssertionError(name + ": reload failed", failures.peek());
+	}
+
+	/**
+	 * Checks that a dictionary holds exactly the given words.
+	 */
+	private static void checkWords(String name, WordDictionary dictionary, List<String> words) {
+		check(dictionary.size() == words.size(), name + ": size " + dictionary.size() + ", expected " + words.size());
+		for (String word : words)
+			check(dictionary.contains(word), name + ": " + word + " missing");
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
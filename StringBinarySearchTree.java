@@ -0,0 +1,168 @@
+package assign08;
+
+/**
+ * A binary search tree of Strings in which every node caches a prefix key: the
+ * first 8 characters of its String packed into a long. Keys are ordered the same
+ * way as their Strings, so comparing two keys (a single primitive comparison)
+ * settles most comparisons, and String.compareTo is called only when the keys
+ * are equal, i.e., when the Strings share their first 8 characters (or share a
+ * shorter prefix ending in a character of 255 or more).
+ *
+ * Each character takes 8 bits of the key, from the most significant end. A
+ * character of 255 or more is stored as 255 and ends the key, since the
+ * characters after it could no longer be ordered correctly. Characters past the
+ * end of the String count as zeros. Keys are compared as unsigned numbers.
+ *
+ * This costs 8 bytes per node, and pays off when many words share their first
+ * few characters with the words they are compared to, as in a dictionary.
+ *
+ * @version October 18, 2026
+ */
+public class StringBinarySearchTree extends BinarySearchTree<String>
+{
+
+	/**
+	 * Creates an empty, plain (unbalanced) tree.
+	 */
+	public StringBinarySearchTree()
+	{
+		super(false);
+	}
+
+	/**
+	 * Creates an empty tree.
+	 *
+	 * @param selfBalancing - true if the tree should rebalance itself (AVL) after
+	 *                      every add and remove, keeping its height O(log N)
+	 */
+	public StringBinarySearchTree(boolean selfBalancing)
+	{
+		super(selfBalancing);
+	}
+
+	@Override
+	protected BinarySearchTree<String> newEmptyTree()
+	{
+		return new StringBinarySearchTree(isSelfBalancing());
+	}
+
+	@Override
+	protected BinaryNode<String> newNode(String item, BinaryNode<String> parent)
+	{
+		return new PrefixKeyNode(item, parent);
+	}
+
+	@Override
+	protected long keyOf(String item)
+	{
+		return prefixKey(item);
+	}
+
+	@Override
+	protected int compare(String item, long key, BinaryNode<String> node)
+	{
+		int comparison = Long.compareUnsigned(key, ((PrefixKeyNode) node).key);
+
+		if (comparison != 0)
+			return comparison;
+
+		return item.compareTo(node.getData());
+	}
+
+	@Override
+	protected long keyOf(char[] chars, int offset, int length)
+	{
+		return prefixKey(chars, offset, length);
+	}
+
+	@Override
+	protected int compare(char[] chars, int offset, int length, long key, BinaryNode<String> node)
+	{
+		int comparison = Long.compareUnsigned(key, ((PrefixKeyNode) node).key);
+
+		if (comparison != 0)
+			return comparison;
+
+		return compareChars(chars, offset, length, node.getData());
+	}
+
+	/**
+	 * Returns the prefix key of a String: for any Strings a and b, if a < b then
+	 * prefixKey(a) <= prefixKey(b) as unsigned numbers.
+	 *
+	 * @param item - the String whose key is wanted
+	 * @return the key
+	 */
+	static long prefixKey(String item)
+	{
+		long key = 0;
+		int length = Math.min(item.length(), 8);
+
+		for (int i = 0; i < length; i++)
+		{
+			char c = item.charAt(i);
+
+			if (c >= 255)
+			{
+				key |= 255L << 56 - 8 * i;
+				break;
+			}
+
+			key |= (long) c << 56 - 8 * i;
+		}
+
+		return key;
+	}
+
+	/**
+	 * Returns the prefix key of the String made of a range of characters, the same
+	 * as prefixKey of that String.
+	 *
+	 * @param chars - the array holding the String
+	 * @param offset - the index of its first character
+	 * @param length - the number of characters in it
+	 * @return the key
+	 */
+	static long prefixKey(char[] chars, int offset, int length)
+	{
+		long key = 0;
+		int prefix = Math.min(length, 8);
+
+		for (int i = 0; i < prefix; i++)
+		{
+			char c = chars[offset + i];
+
+			if (c >= 255)
+			{
+				key |= 255L << 56 - 8 * i;
+				break;
+			}
+
+			key |= (long) c << 56 - 8 * i;
+		}
+
+		return key;
+	}
+
+	/**
+	 * A node that keeps the prefix key of its String, updated whenever the String
+	 * is (e.g., when remove moves a successor's String into it).
+	 */
+	private static class PrefixKeyNode extends BinaryNode<String>
+	{
+		private long key;
+
+		private PrefixKeyNode(String data, BinaryNode<String> parent)
+		{
+			super(data, parent);
+			key = prefixKey(data);
+		}
+
+		@Override
+		public void setData(String data)
+		{
+			super.setData(data);
+			key = prefixKey(data);
+		}
+	}
+}
@@ -0,0 +1,335 @@
+package assign08;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash set of Strings tuned for dictionary lookups. Words are kept in a single
+ * open-addressing table (linear probing) made of two parallel arrays, one holding
+ * the words and one holding their cached hash codes, so there is no node object
+ * per word and most failed probes are rejected by an int comparison before the
+ * String itself is touched.
+ * 
+ * The table is kept at most half full, and removal shifts later entries of the
+ * probe run back instead of leaving tombstones.
+ * 
+ * @version October 18, 2026
+ */
+public class StringHashSet implements WordDictionary {
+
+	private static final int MIN_CAPACITY = 16;
+
+	private String[] words;
+
+	private int[] hashes;
+
+	private int size;
+
+	// number of modifications, so that iterators can detect concurrent changes
+	private int modCount;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public StringHashSet() {
+		this(0);
+	}
+
+	/**
+	 * Creates an empty set with room for the given number of words before it has
+	 * to grow.
+	 * 
+	 * @param expectedSize - the number of words expected to be added
+	 */
+	public StringHashSet(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity < 2L * expectedSize)
+			capacity <<= 1;
+
+		words = new String[capacity];
+		hashes = new int[capacity];
+	}
+
+	/**
+	 * Creates a set holding the same words as the given set.
+	 * 
+	 * COST: O(capacity of other), a straight copy of its table
+	 * 
+	 * @param other - the set to be copied
+	 */
+	public StringHashSet(StringHashSet other) {
+		words = other.words.clone();
+		hashes = other.hashes.clone();
+		size = other.size;
+	}
+
+	/**
+	 * COST: O(capacity), a straight copy of the table
+	 */
+	@Override
+	public StringHashSet copy() {
+		return new StringHashSet(this);
+	}
+
+	/**
+	 * Ensures that this set contains the specified word.
+	 * 
+	 * COST: O(1) expected
+	 */
+	@Override
+	public boolean add(String word) {
+		int hash = word.hashCode();
+		int mask = words.length - 1;
+
+		for (int i = indexFor(hash, mask);; i = (i + 1) & mask) {
+			String current = words[i];
+			if (current == null) {
+				words[i] = word;
+				hashes[i] = hash;
+				size++;
+				modCount++;
+				if (2 * size > words.length)
+					resize(words.length << 1);
+				return true;
+			}
+			if (hashes[i] == hash && current.equals(word))
+				return false;
+		}
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends String> words) {
+		//Grow once up front instead of repeatedly while adding
+		long needed = 2L * (size + words.size());
+		if (needed > this.words.length) {
+			int capacity = this.words.length;
+			while (capacity < needed)
+				capacity <<= 1;
+			resize(capacity);
+		}
+
+		boolean changed = false;
+		for (String word : words)
+			if (add(word))
+				changed = true;
+
+		return changed;
+	}
+
+	/**
+	 * Determines if the specified word is in this set.
+	 * 
+	 * COST: O(1) expected
+	 */
+	@Override
+	public boolean contains(String word) {
+		int hash = word.hashCode();
+		int mask = words.length - 1;
+
+		for (int i = indexFor(hash, mask);; i = (i + 1) & mask) {
+			String current = words[i];
+			if (current == null)
+				return false;
+			if (hashes[i] == hash && current.equals(word))
+				return true;
+		}
+	}
+
+	/**
+	 * Determines if the word made of the specified range of characters is in this
+	 * set, without creating a String for it.
+	 * 
+	 * COST: O(1) expected
+	 */
+	@Override
+	public boolean contains(char[] chars, int offset, int length) {
+		return get(chars, offset, length) != null;
+	}
+
+	/**
+	 * Returns the String in this set made of the specified range of characters, or
+	 * null if there is none. The hash is computed exactly as String.hashCode() would
+	 * compute it, so no String is created for the lookup.
+	 * 
+	 * COST: O(1) expected
+	 * 
+	 * @param chars  - the array holding the word sought
+	 * @param offset - the index of the word's first character
+	 * @param length - the number of characters in the word
+	 * @return the word as stored in this set, or null
+	 */
+	public String get(char[] chars, int offset, int length) {
+		int hash = 0;
+		for (int i = offset; i < offset + length; i++)
+			hash = 31 * hash + chars[i];
+
+		int mask = words.length - 1;
+
+		for (int i = indexFor(hash, mask);; i = (i + 1) & mask) {
+			String current = words[i];
+			if (current == null)
+				return null;
+			if (hashes[i] == hash && matches(current, chars, offset, length))
+				return current;
+		}
+	}
+
+	/**
+	 * Ensures that this set does not contain the specified word.
+	 * 
+	 * COST: O(1) expected
+	 */
+	@Override
+	public boolean remove(String word) {
+		int hash = word.hashCode();
+		int mask = words.length - 1;
+
+		for (int i = indexFor(hash, mask);; i = (i + 1) & mask) {
+			String current = words[i];
+			if (current == null)
+				return false;
+			if (hashes[i] == hash && current.equals(word)) {
+				deleteSlot(i);
+				size--;
+				modCount++;
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public boolean removeAll(Collection<? extends String> words) {
+		boolean changed = false;
+		for (String word : words)
+			if (remove(word))
+				changed = true;
+
+		return changed;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all words from this set.
+	 */
+	public void clear() {
+		words = new String[MIN_CAPACITY];
+		hashes = new int[MIN_CAPACITY];
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Iterates over the words in table order (i.e., no particular order).
+	 */
+	@Override
+	public Iterator<String> iterator() {
+		return new Iterator<String>() {
+
+			private final String[] table = words;
+
+			private final int expectedModCount = modCount;
+
+			private int next = advance(0);
+
+			private int advance(int from) {
+				while (from < table.length && table[from] == null)
+					from++;
+				return from;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next < table.length;
+			}
+
+			@Override
+			public String next() {
+				if (modCount != expectedModCount)
+					throw new ConcurrentModificationException();
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				String word = table[next];
+				next = advance(next + 1);
+				return word;
+			}
+		};
+	}
+
+	/**
+	 * Empties slot i and then walks the rest of its probe run, moving back any word
+	 * whose home slot means it could no longer be found past the new gap.
+	 */
+	private void deleteSlot(int i) {
+		int mask = words.length - 1;
+		int gap = i;
+
+		for (int j = (i + 1) & mask; words[j] != null; j = (j + 1) & mask) {
+			int home = indexFor(hashes[j], mask);
+
+			//Move the word back unless its home lies cyclically in (gap, j]
+			boolean reachable = gap <= j ? (gap < home && home <= j) : (gap < home || home <= j);
+			if (!reachable) {
+				words[gap] = words[j];
+				hashes[gap] = hashes[j];
+				gap = j;
+			}
+		}
+
+		words[gap] = null;
+		hashes[gap] = 0;
+	}
+
+	/**
+	 * Returns true if word consists of exactly the characters chars[offset ..
+	 * offset + length).
+	 */
+	private static boolean matches(String word, char[] chars, int offset, int length) {
+		if (word.length() != length)
+			return false;
+
+		for (int i = 0; i < length; i++)
+			if (word.charAt(i) != chars[offset + i])
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Rehashes every word into a table of the given capacity (a power of two).
+	 */
+	private void resize(int capacity) {
+		String[] oldWords = words;
+		int[] oldHashes = hashes;
+		int mask = capacity - 1;
+
+		words = new String[capacity];
+		hashes = new int[capacity];
+
+		for (int j = 0; j < oldWords.length; j++) {
+			if (oldWords[j] == null)
+				continue;
+
+			int i = indexFor(oldHashes[j], mask);
+			while (words[i] != null)
+				i = (i + 1) & mask;
+			words[i] = oldWords[j];
+			hashes[i] = oldHashes[j];
+		}
+	}
+
+	/**
+	 * Spreads a String hash code over the table (Fibonacci hashing), since
+	 * String.hashCode() of short words is poorly distributed in its low bits.
+	 */
+	private static int indexFor(int hash, int mask) {
+		int spread = hash * 0x9E3779B9;
+		return (spread ^ spread >>> 16) & mask;
+	}
+}
@@ -0,0 +1,112 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Checks that SpellChecker.suggest stays correct while words are added and
+ * removed through the spell checker, which keeps the changes beside its
+ * suggestion graph instead of rebuilding it: after every change, its suggestions
+ * must be the ones a graph freshly built from the dictionary gives. It also
+ * checks that bad arguments are rejected with an IllegalArgumentException.
+ *
+ * Usage: java assign08.SuggestionCheck [changes]
+ *
+ * The given number of random changes (default 1500, enough to pass the point
+ * where the graph is rebuilt) are made to a dictionary of 5,000 words, through
+ * addToDictionary, removeFromDictionary, and reload. After each change, the
+ * changed word must be suggested for itself exactly when it is in the
+ * dictionary; after every fifth, suggestions for typos are compared with a fresh
+ * graph. The check prints the mean time of a change and throws an
+ * AssertionError (exiting with a nonzero status) on the first wrong suggestion.
+ *
+ * @version October 18, 2026
+ */
+public class SuggestionCheck {
+
+	public static void main(String[] args) throws Exception {
+		int changes = args.length > 0 ? Integer.parseInt(args[0]) : 1500;
+		Random random = new Random(42);
+		List<String> words = DictionaryBenchmark.generateWords(5_000, 42);
+		List<String> extra = DictionaryBenchmark.generateWords(1_000, 7);
+
+		TreeSet<String> expected = new TreeSet<String>(words);
+		SpellChecker checker = new SpellChecker(new ArrayList<String>(words));
+		checkSuggestions(checker, expected, words, random);
+
+		long nanos = 0;
+		for (int i = 0; i < changes; i++) {
+			String word = random.nextBoolean() ? words.get(random.nextInt(words.size()))
+					: extra.get(random.nextInt(extra.size()));
+			long start = System.nanoTime();
+			if (random.nextInt(100) == 0) {
+				//Reload with a hundred words changed
+				List<String> reloaded = new ArrayList<String>(expected);
+				for (int j = 0; j < 50; j++)
+					reloaded.remove(random.nextInt(reloaded.size()));
+				for (int j = 0; j < 50; j++)
+					reloaded.add(extra.get(random.nextInt(extra.size())));
+				checker.reload(DictionaryBenchmark.writeTemporaryFile(String.join(" ", reloaded)));
+				expected = new TreeSet<String>(reloaded);
+			}
+			else if (random.nextBoolean()) {
+				checker.addToDictionary(word);
+				expected.add(word);
+			}
+			else {
+				checker.removeFromDictionary(word);
+				expected.remove(word);
+			}
+			nanos += System.nanoTime() - start;
+
+			List<String> suggested = checker.suggest(word, 0, 1);
+			check(suggested.equals(expected.contains(word) ? List.of(word) : List.of()),
+					"after change " + i + ", suggestions for " + word + ": " + suggested);
+			if (i % 5 == 0)
+				checkSuggestions(checker, expected, words, random);
+		}
+		System.out.printf("changes=%d mean change=%.1f us%n", changes, nanos / 1e3 / changes);
+
+		checkRejected(() -> checker.suggest("word", -1, 5), "negative distance");
+		checkRejected(() -> checker.suggest("word", 2, -1), "negative count");
+		check(checker.suggest("word", 2, 0).isEmpty(), "suggestions for k = 0");
+		check(checker.suggest("word", Integer.MAX_VALUE, 1).size() == 1, "suggestions for a huge distance");
+		check(checker.suggest("word", 1, Integer.MAX_VALUE).size() <= expected.size(), "suggestions for a huge k");
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Checks the suggestions for a few typos, with several distances and counts,
+	 * against a graph freshly built from the expected words.
+	 */
+	private static void checkSuggestions(SpellChecker checker, TreeSet<String> expected, List<String> words,
+			Random random) {
+		DawgSortedSet fresh = new DawgSortedSet(new ArrayList<String>(expected));
+		for (int i = 0; i < 8; i++) {
+			String typo = DictionaryBenchmark.misspell(words.get(random.nextInt(words.size())), 1 + i % 2, random);
+			int maxDistance = i % 4;
+			int k = 1 + i % 10;
+			check(checker.suggest(typo, maxDistance, k).equals(fresh.closest(typo, maxDistance, k)),
+					"suggestions for " + typo + " within " + maxDistance + ": " + checker.suggest(typo, maxDistance, k)
+							+ ", expected " + fresh.closest(typo, maxDistance, k));
+		}
+	}
+
+	private static void checkRejected(Runnable call, String what) {
+		try {
+			call.run();
+		}
+		catch(IllegalArgumentException e) {
+			return;
+		}
+		throw new AssertionError(what + " accepted");
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
@@ -0,0 +1,199 @@
+package assign08;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.TreeSet;
+
+/**
+ * Checks that every way SpellChecker divides a document into words agrees with
+ * the way it originally did: a Scanner delimited by the regular expression
+ * "\\s*[^a-zA-Z]\\s*", dropping empty tokens and lower-casing the rest. The
+ * ways checked are WordTokenizer itself, spellCheck(File) (which divides the
+ * memory-mapped bytes), spellCheck(File, threads) with several thread counts
+ * (whose chunks must not split words), spellCheck(Reader, Consumer),
+ * spellCheck(CharSequence), the batch spellCheck(Collection), and the loading of
+ * a dictionary file.
+ *
+ * The documents are random mixes of lower- and upper-case letters, digits,
+ * punctuation, white space, and non-ASCII characters (accented and CJK letters,
+ * supplementary-plane characters, and the Kelvin sign, which lower-cases to
+ * 'k' but is not an ASCII letter), with words up to a few hundred letters long
+ * so that they land on chunk boundaries. Checked against an empty dictionary,
+ * every word is misspelled, so each spell-check must return exactly the
+ * reference words.
+ *
+ * Usage: java assign08.TokenizerAgreementCheck [documents]
+ *
+ * The given number of random documents (default 200) are checked, and then one
+ * document larger than the 64MB window spellCheck(File) maps at a time, with an
+ * upper-case word across the window boundary. The check throws an
+ * AssertionError (exiting with a nonzero status) on the first disagreement.
+ *
+ * @version October 18, 2026
+ */
+public class TokenizerAgreementCheck {
+
+	// separators (and a few letters) mixed between the words; \u212A is the Kelvin
+	// sign, \u0130 a capital I with a dot, and \u00A0 a no-break space
+	private static final String[] PIECES = { "a", "Z", "q", "M", "\u00E9", "\u00DF", "\u4E2D", "\uD83D\uDE00",
+			"\u212A", "\u0130", "\u00A0", "0", "7", " ", "  ", "\t", "\n", "\r\n", ".", ",", "'", "-", "_", "@" };
+
+	// the window spellCheck(File) maps at a time (SpellChecker.MAP_WINDOW_SIZE)
+	private static final int MAP_WINDOW_SIZE = 1 << 26;
+
+	public static void main(String[] args) throws IOException {
+		int documents = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+		Random random = new Random(42);
+		SpellChecker checker = new SpellChecker(new StringHashSet());
+		File file = File.createTempFile("tokenizer-check", ".txt");
+		file.deleteOnExit();
+
+		try {
+			List<String> batch = new ArrayList<String>();
+			List<List<String>> batchExpected = new ArrayList<List<String>>();
+
+			for (int d = 0; d < documents; d++) {
+				String document = randomDocument(random, d % 10 == 0 ? 200_000 : random.nextInt(5_000));
+				List<String> expected = regexWords(document);
+				Files.write(file.toPath(), document.getBytes(StandardCharsets.UTF_8));
+
+				checkSame("WordTokenizer", tokenizerWords(document), expected, d);
+				checkSame("spellCheck(File)", checker.spellCheck(file), expected, d);
+				for (int threads : new int[] { 1, 2, 3, 8 })
+					checkSame("spellCheck(File, " + threads + ")", checker.spellCheck(file, threads), expected, d);
+
+				List<String> fromReader = new ArrayList<String>();
+				checker.spellCheck(new StringReader(document), fromReader::add);
+				checkSame("spellCheck(Reader)", fromReader, expected, d);
+				checkSame("spellCheck(CharSequence)", checker.spellCheck(new StringBuilder(document)), expected, d);
+
+				List<String> distinct = new ArrayList<String>(new TreeSet<String>(expected));
+				List<String> loaded = new ArrayList<String>();
+				for (String word : new SpellChecker(file).getDictionary())
+					loaded.add(word);
+				loaded.sort(null);
+				checkSame("SpellChecker(File)", loaded, distinct, d);
+
+				batch.add(document);
+				batchExpected.add(expected);
+			}
+
+			List<List<String>> batchWords = checker.spellCheck(batch);
+			for (int d = 0; d < documents; d++)
+				checkSame("spellCheck(Collection)", batchWords.get(d), batchExpected.get(d), d);
+			System.out.printf("documents=%d%n", documents);
+
+			checkWindowBoundary(file);
+		}
+		finally {
+			file.delete();
+		}
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Checks a document larger than a mapping window, made of a known word, with an
+	 * unknown upper-case word straddling the window boundary: it must be found
+	 * whole, by the sequential and the parallel check.
+	 */
+	private static void checkWindowBoundary(File file) throws IOException {
+		String straddling = "StraddlingTheWindowBoundary";
+		byte[] filler = "known, ".getBytes(StandardCharsets.US_ASCII);
+		int before = MAP_WINDOW_SIZE - straddling.length() / 2;
+
+		try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+			output.setLength(0);
+			byte[] block = new byte[1 << 20];
+			for (int i = 0; i < block.length; i++)
+				block[i] = filler[i % filler.length];
+
+			//Fill up to the word with whole "known, " pieces (padded with spaces)
+			long written = 0;
+			int usable = block.length - block.length % filler.length;
+			while (written + usable <= before) {
+				output.write(block, 0, usable);
+				written += usable;
+			}
+			int last = (int) (before - written);
+			output.write(block, 0, last - last % filler.length);
+			for (int i = last - last % filler.length; i < last; i++)
+				output.write(' ');
+
+			output.write((" " + straddling + " ").getBytes(StandardCharsets.US_ASCII));
+			output.write(block, 0, usable);
+		}
+
+		SpellChecker checker = new SpellChecker(List.of("known"));
+		List<String> expected = List.of(straddling.toLowerCase(Locale.ROOT));
+		checkSame("spellCheck(File) across a window", checker.spellCheck(file), expected, -1);
+		checkSame("spellCheck(File, 3) across a window", checker.spellCheck(file, 3), expected, -1);
+		System.out.printf("window boundary: %d bytes%n", file.length());
+	}
+
+	/**
+	 * Returns the words of a document as SpellChecker originally found them.
+	 */
+	private static List<String> regexWords(String document) {
+		List<String> words = new ArrayList<String>();
+		try (Scanner scanner = new Scanner(document)) {
+			scanner.useDelimiter("\\s*[^a-zA-Z]\\s*");
+			while (scanner.hasNext()) {
+				String word = scanner.next();
+				if (!word.equals(""))
+					words.add(word.toLowerCase(Locale.ROOT));
+			}
+		}
+		return words;
+	}
+
+	private static List<String> tokenizerWords(String document) throws IOException {
+		List<String> words = new ArrayList<String>();
+		WordTokenizer tokenizer = new WordTokenizer(new StringReader(document));
+		String word;
+		while ((word = tokenizer.next()) != null)
+			words.add(word);
+		return words;
+	}
+
+	/**
+	 * Returns a random document of about the given length, mostly words (some of
+	 * them long) separated by everything else.
+	 */
+	private static String randomDocument(Random random, int length) {
+		StringBuilder document = new StringBuilder(length + 300);
+		while (document.length() < length) {
+			int wordLength = random.nextInt(20) == 0 ? 100 + random.nextInt(200) : 1 + random.nextInt(10);
+			for (int i = 0; i < wordLength; i++) {
+				char letter = (char) ((random.nextInt(4) == 0 ? 'A' : 'a') + random.nextInt(26));
+				document.append(letter);
+			}
+			int separators = 1 + random.nextInt(3);
+			for (int i = 0; i < separators; i++)
+				document.append(PIECES[random.nextInt(PIECES.length)]);
+		}
+		return document.toString();
+	}
+
+	private static void checkSame(String path, List<String> actual, List<String> expected, int document) {
+		if (actual.equals(expected))
+			return;
+
+		int i = 0;
+		while (i < Math.min(actual.size(), expected.size()) && actual.get(i).equals(expected.get(i)))
+			i++;
+		throw new AssertionError(path + ", document " + document + ": " + actual.size() + " words, expected "
+				+ expected.size() + "; first difference at word " + i + ": "
+				+ (i < actual.size() ? actual.get(i) : "(none)") + " vs "
+				+ (i < expected.size() ? expected.get(i) : "(none)"));
+	}
+}
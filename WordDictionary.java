@@ -0,0 +1,113 @@
+package assign08;
+
+import java.util.Collection;
+
+/**
+ * An interface for the set of words a SpellChecker looks tokens up in. Unlike
+ * SortedSet, it makes no promise about the order of its words, so it can be
+ * backed by a hash table when only membership checks are needed. Iterating over
+ * a dictionary visits each of its words once, in no particular order.
+ * 
+ * @version October 18, 2026
+ */
+public interface WordDictionary extends Iterable<String> {
+
+	/**
+	 * Ensures that this dictionary contains the specified word.
+	 * 
+	 * @param word - the word whose presence is ensured in this dictionary
+	 * @return true if this dictionary changed as a result of this method call;
+	 *         otherwise, returns false
+	 */
+	public boolean add(String word);
+
+	/**
+	 * Ensures that this dictionary contains all words in the specified collection.
+	 * 
+	 * @param words - the collection of words whose presence is ensured
+	 * @return true if this dictionary changed as a result of this method call;
+	 *         otherwise, returns false
+	 */
+	public boolean addAll(Collection<? extends String> words);
+
+	/**
+	 * Determines if the specified word is in this dictionary.
+	 * 
+	 * @param word - the word sought in this dictionary
+	 * @return true if the word is in this dictionary; otherwise, returns false
+	 */
+	public boolean contains(String word);
+
+	/**
+	 * Determines if the word made of the specified range of characters is in this
+	 * dictionary. Implementations should override this to look the word up without
+	 * first creating a String for it.
+	 * 
+	 * @param chars  - the array holding the word sought
+	 * @param offset - the index of the word's first character
+	 * @param length - the number of characters in the word
+	 * @return true if the word is in this dictionary; otherwise, returns false
+	 */
+	public default boolean contains(char[] chars, int offset, int length) {
+		return contains(new String(chars, offset, length));
+	}
+
+	/**
+	 * Ensures that this dictionary does not contain the specified word.
+	 * 
+	 * @param word - the word whose absence is ensured in this dictionary
+	 * @return true if this dictionary changed as a result of this method call;
+	 *         otherwise, returns false
+	 */
+	public boolean remove(String word);
+
+	/**
+	 * Ensures that this dictionary does not contain any of the words in the
+	 * specified collection.
+	 * 
+	 * @param words - the collection of words whose absence is ensured
+	 * @return true if this dictionary changed as a result of this method call;
+	 *         otherwise, returns false
+	 */
+	public boolean removeAll(Collection<? extends String> words);
+
+	/**
+	 * Removes and adds words as one change. By default this is removeAll followed
+	 * by addAll; implementations that can make the change atomically for
+	 * concurrent readers (e.g., ConcurrentDictionary) override it.
+	 * 
+	 * @param additions - the words whose presence is ensured (may be null)
+	 * @param removals  - the words whose absence is ensured (may be null); these
+	 *                  are removed before the additions are made
+	 * @return true if this dictionary changed as a result of this method call;
+	 *         otherwise, returns false
+	 */
+	public default boolean update(Collection<? extends String> additions, Collection<? extends String> removals) {
+		boolean changed = false;
+
+		if (removals != null && removeAll(removals))
+			changed = true;
+		if (additions != null && addAll(additions))
+			changed = true;
+
+		return changed;
+	}
+
+	/**
+	 * Returns a new dictionary of the same kind holding the same words, which can
+	 * be changed without affecting this one. SpellChecker.reload changes a copy
+	 * and then switches to it, so that spell-checks in progress never see a
+	 * dictionary half changed. By default there is no copy, and such a dictionary
+	 * is reloaded in place.
+	 * 
+	 * @return the copy, or null if this dictionary cannot be copied
+	 */
+	public default WordDictionary copy() {
+		return null;
+	}
+
+	/**
+	 * Returns the number of words in this dictionary.
+	 */
+	public int size();
+}
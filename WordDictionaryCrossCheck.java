@@ -0,0 +1,321 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Checks the hash-based WordDictionaries of the package against
+ * java.util.HashSet: a StringHashSet, or a BloomFilterDictionary in front of a
+ * StringHashSet or a BinarySearchTree, is given the same random sequence of add,
+ * remove, contains, addAll, removeAll, update, and clear calls as a HashSet
+ * (clear only for a StringHashSet; a BloomFilterDictionary instead has words
+ * added behind its back and is then rebuilt), every call must return what the
+ * HashSet's returns, and every so often the whole contents are compared:
+ *
+ * - size, and iteration visiting each word once;
+ * - contains and get on every vocabulary word, by String and by a range of a
+ *   larger char array;
+ * - copy, which must hold the same words and be independent of the original;
+ * - for a BloomFilterDictionary, that the filter rejects none of the words the
+ *   dictionary holds, and that its statistics add up.
+ *
+ * Finally, half of a BloomFilterDictionary's words are removed (through remove,
+ * removeAll, and update in turn), and the filter must have been rebuilt to
+ * reject most of them.
+ *
+ * The vocabulary mixes random words (ASCII and not) with families of words that
+ * share a hash code, such as "AaAa", "AaBB", "BBAa", and "BBBB", so that long
+ * probe runs form and removals must shift their entries back. It is large enough
+ * that the table grows several times.
+ *
+ * Usage: java assign08.WordDictionaryCrossCheck [operations]
+ *
+ * Each dictionary is given the given number of operations (default 20,000). The
+ * check throws an AssertionError (exiting with a nonzero status) on the first
+ * disagreement.
+ *
+ * @version October 18, 2026
+ */
+public class WordDictionaryCrossCheck {
+
+	// the number of random words in the vocabulary, besides the colliding ones
+	private static final int RANDOM_WORDS = 1_500;
+
+	// the number of operations between two full comparisons
+	private static final int CHECK_INTERVAL = 500;
+
+	public static void main(String[] args) {
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+		Random random = new Random(42);
+		List<String> vocabulary = randomVocabulary(random);
+
+		checkDictionary("StringHashSet", new StringHashSet(), vocabulary, random, operations);
+		checkDictionary("StringHashSet (presized)", new StringHashSet(vocabulary.size()), vocabulary, random,
+				operations);
+		checkDictionary("BloomFilterDictionary (StringHashSet)", new BloomFilterDictionary(new StringHashSet()),
+				vocabulary, random, operations);
+		checkDictionary("BloomFilterDictionary (BinarySearchTree)",
+				new BloomFilterDictionary(new SortedSetDictionary(new BinarySearchTree<String>(true))), vocabulary,
+				random, operations);
+		checkStaleEntries(vocabulary);
+
+		System.out.println("OK");
+	}
+
+	/**
+	 * Gives a dictionary and a HashSet the same random operations, checking that
+	 * every call returns the same result and, every CHECK_INTERVAL operations, that
+	 * the two hold the same words.
+	 */
+	private static void checkDictionary(String name, WordDictionary dictionary, List<String> vocabulary,
+			Random random, int operations) {
+		HashSet<String> expected = new HashSet<String>();
+
+		for (int i = 0; i < operations; i++) {
+			String word = vocabulary.get(random.nextInt(vocabulary.size()));
+			int operation = random.nextInt(20);
+
+			if (operation < 6)
+				check(dictionary.add(word) == expected.add(word), name + ": add(" + word + ") disagrees");
+			else if (operation < 10)
+				check(dictionary.remove(word) == expected.remove(word), name + ": remove(" + word + ") disagrees");
+			else if (operation < 13)
+				check(dictionary.contains(word) == expected.contains(word), name + ": contains(" + word
+						+ ") disagrees");
+			else if (operation < 15) {
+				List<String> words = randomWords(vocabulary, random);
+				check(dictionary.addAll(words) == expected.addAll(words), name + ": addAll disagrees");
+			}
+			else if (operation < 17) {
+				List<String> words = randomWords(vocabulary, random);
+				check(dictionary.removeAll(words) == expected.removeAll(words), name + ": removeAll disagrees");
+			}
+			else if (operation < 19) {
+				//Removals are made before additions, so a word in both ends up present
+				List<String> additions = randomWords(vocabulary, random);
+				List<String> removals = randomWords(vocabulary, random);
+				boolean changed = expected.removeAll(removals);
+				changed |= expected.addAll(additions);
+				check(dictionary.update(additions, removals) == changed, name + ": update disagrees");
+			}
+			else if (random.nextInt(20) == 0 && dictionary instanceof StringHashSet) {
+				((StringHashSet) dictionary).clear();
+				expected.clear();
+			}
+			else if (dictionary instanceof BloomFilterDictionary)
+				checkDirectChange((BloomFilterDictionary) dictionary, expected, word);
+
+			if (i % CHECK_INTERVAL == 0 || i == operations - 1)
+				checkContents(name + " after " + (i + 1) + " operations", dictionary, expected, vocabulary);
+		}
+
+		System.out.printf("%-42s ok%n", name);
+	}
+
+	/**
+	 * Checks that a dictionary holds exactly the words of a HashSet, and that a
+	 * copy of it does too.
+	 */
+	private static void checkContents(String name, WordDictionary dictionary, Set<String> expected,
+			List<String> vocabulary) {
+		checkWords(name, dictionary, expected, vocabulary);
+
+		WordDictionary copy = dictionary.copy();
+		if (copy != null) {
+			checkWords(name + ", copy", copy, expected, vocabulary);
+
+			//Changing either one must leave the other as it was
+			String absent = "copy-check-word";
+			copy.add(absent);
+			for (String word : vocabulary.subList(0, 50))
+				copy.remove(word);
+			checkWords(name + ", after changing its copy", dictionary, expected, vocabulary);
+			check(!dictionary.contains(absent), name + ": word added to the copy found in the original");
+		}
+
+		if (dictionary instanceof BloomFilterDictionary)
+			checkFilter(name, (BloomFilterDictionary) dictionary, expected, vocabulary);
+
+		if (dictionary instanceof StringHashSet && !expected.isEmpty()) {
+			Iterator<String> words = dictionary.iterator();
+			words.next();
+			dictionary.add("modified-during-iteration");
+			try {
+				words.next();
+				throw new AssertionError(name + ": iterator did not notice a change");
+			}
+			catch(ConcurrentModificationException | NoSuchElementException e) {
+				//expected (the iterator may have been at its last word)
+			}
+			dictionary.remove("modified-during-iteration");
+		}
+	}
+
+	/**
+	 * Checks that a Bloom filter never rejects a word its dictionary holds (no
+	 * false negatives), that its lookup counts add up, and that the rebuilds that
+	 * follow changes keep its predicted false positive rate near the 1% it is
+	 * sized for.
+	 */
+	private static void checkFilter(String name, BloomFilterDictionary filter, Set<String> expected,
+			List<String> vocabulary) {
+		filter.resetStatistics();
+		long hits = 0;
+		for (String word : vocabulary) {
+			if (expected.contains(word)) {
+				char[] chars = ("x" + word + "y").toCharArray();
+				filter.contains(word);
+				filter.contains(chars, 1, word.length());
+				hits += 2;
+			}
+		}
+		check(filter.getFilteredCount() == 0, name + ": filter rejected " + filter.getFilteredCount()
+				+ " lookups of words in the dictionary");
+		check(filter.getFalsePositiveCount() == 0, name + ": lookups of words in the dictionary counted as false "
+				+ "positives");
+
+		for (String word : vocabulary)
+			if (!expected.contains(word))
+				filter.contains(word);
+		check(filter.getLookupCount() == hits + filter.getFilteredCount() + filter.getFalsePositiveCount(),
+				name + ": lookup counts do not add up: " + filter);
+		check(filter.getExpectedFalsePositiveRate() <= 0.01, name + ": expected false positive rate "
+				+ filter.getExpectedFalsePositiveRate());
+	}
+
+	/**
+	 * Removes half of a Bloom filter's words through remove, removeAll, or update:
+	 * the removed words stay in the filter as stale entries until they make up a
+	 * quarter of it, when it is rebuilt, so most of the removed words must then be
+	 * rejected by the filter again.
+	 */
+	private static void checkStaleEntries(List<String> vocabulary) {
+		List<String> words = vocabulary.subList(0, 1_000);
+		List<String> removals = words.subList(0, 500);
+
+		for (String path : new String[] { "remove", "removeAll", "update" }) {
+			BloomFilterDictionary filter = new BloomFilterDictionary(new StringHashSet());
+			filter.addAll(words);
+			if (path.equals("remove")) {
+				for (String word : removals)
+					filter.remove(word);
+			}
+			else if (path.equals("removeAll")) {
+				//In steps, as the filter is only rebuilt after each change
+				for (int i = 0; i < removals.size(); i += 50)
+					filter.removeAll(removals.subList(i, i + 50));
+			}
+			else {
+				for (int i = 0; i < removals.size(); i += 50)
+					filter.update(List.of(), removals.subList(i, i + 50));
+			}
+
+			filter.resetStatistics();
+			for (String word : removals)
+				check(!filter.contains(word), path + ": removed word " + word + " found");
+			double passed = filter.getObservedFalsePositiveRate();
+			check(passed <= 0.3, path + ": " + passed + " of the removed words passed the filter; stale entries were "
+					+ "not rebuilt away");
+		}
+
+		System.out.printf("%-42s ok%n", "BloomFilterDictionary stale entries");
+	}
+
+	/**
+	 * Adds a word to the dictionary behind a Bloom filter directly, which the
+	 * filter cannot see, then rebuilds the filter, which must then find the word.
+	 */
+	private static void checkDirectChange(BloomFilterDictionary filter, Set<String> expected, String word) {
+		if (!expected.add(word))
+			return;
+
+		filter.getDictionary().add(word);
+		filter.rebuild();
+		check(filter.contains(word), "word added behind the filter not found after rebuild: " + word);
+	}
+
+	/**
+	 * Checks size, iteration, and lookups of every vocabulary word.
+	 */
+	private static void checkWords(String name, WordDictionary dictionary, Set<String> expected,
+			List<String> vocabulary) {
+		check(dictionary.size() == expected.size(), name + ": size " + dictionary.size() + ", expected "
+				+ expected.size());
+
+		Set<String> iterated = new HashSet<String>();
+		for (String word : dictionary)
+			check(iterated.add(word), name + ": iteration visited " + word + " twice");
+		check(iterated.equals(expected), name + ": iteration visited the wrong words");
+
+		for (String word : vocabulary) {
+			boolean present = expected.contains(word);
+			char[] chars = ("x" + word + "y").toCharArray();
+			check(dictionary.contains(word) == present, name + ": contains(" + word + ") disagrees");
+			check(dictionary.contains(chars, 1, word.length()) == present, name + ": contains(char[]) of " + word
+					+ " disagrees");
+
+			if (dictionary instanceof StringHashSet) {
+				String found = ((StringHashSet) dictionary).get(chars, 1, word.length());
+				check(present ? word.equals(found) : found == null, name + ": get(char[]) of " + word + " returned "
+						+ found);
+			}
+		}
+	}
+
+	/**
+	 * Returns a random list of up to 40 vocabulary words, possibly with duplicates.
+	 */
+	private static List<String> randomWords(List<String> vocabulary, Random random) {
+		int count = random.nextInt(41);
+		List<String> words = new ArrayList<String>(count);
+		for (int i = 0; i < count; i++)
+			words.add(vocabulary.get(random.nextInt(vocabulary.size())));
+		return words;
+	}
+
+	/**
+	 * Returns the random words and the colliding families, shuffled.
+	 */
+	private static List<String> randomVocabulary(Random random) {
+		Set<String> words = new HashSet<String>();
+		words.add("");
+
+		String[] alphabets = { "abcdefghijklmnopqrstuvwxyz", "aeiou\u00E9\u00E8\u00FC\u00DF\u00F1",
+				"\u0430\u0431\u0432\u0433\u0434" };
+		while (words.size() < RANDOM_WORDS) {
+			String alphabet = alphabets[random.nextInt(10) < 8 ? 0 : random.nextInt(alphabets.length)];
+			StringBuilder word = new StringBuilder();
+			int length = 1 + random.nextInt(10);
+			for (int i = 0; i < length; i++)
+				word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			words.add(word.toString());
+		}
+
+		//"Aa" and "BB" have the same hash code, and so do all strings of n of them
+		for (int n = 1; n <= 6; n++) {
+			for (int bits = 0; bits < 1 << n; bits++) {
+				StringBuilder word = new StringBuilder();
+				for (int i = 0; i < n; i++)
+					word.append((bits >> i & 1) == 0 ? "Aa" : "BB");
+				words.add(word.toString());
+			}
+		}
+
+		List<String> vocabulary = new ArrayList<String>(words);
+		vocabulary.sort(null);
+		Collections.shuffle(vocabulary, random);
+		return vocabulary;
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
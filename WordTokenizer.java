@@ -0,0 +1,184 @@
+package assign08;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Divides text into lower-case words. A word is a maximal run of the letters a-z
+ * and A-Z; everything else (spaces, digits, punctuation, and non-ASCII
+ * characters) separates words. This is the same division SpellChecker has always
+ * made, but done with a single pass over a character buffer rather than a regular
+ * expression, and with each word lower-cased as it is copied out.
+ *
+ * The current word lives in a reusable buffer (see wordChars() and wordLength()),
+ * so callers that do not need a String for every word can avoid creating one. A
+ * tokenizer can also be reset onto new text, so that its buffers are reused
+ * across many small documents.
+ *
+ * @version October 18, 2026
+ */
+public class WordTokenizer {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private Reader input;
+
+	// the text being divided when the input is a CharSequence rather than a Reader
+	private CharSequence text;
+
+	private int textPosition;
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	private int bufferPosition;
+
+	private int bufferLimit;
+
+	private char[] word = new char[32];
+
+	private int wordLength;
+
+	/**
+	 * Creates a tokenizer over the given input. The input is read in large blocks,
+	 * so it need not be buffered.
+	 *
+	 * @param input - the Reader supplying the text
+	 */
+	public WordTokenizer(Reader input) {
+		reset(input);
+	}
+
+	/**
+	 * Creates a tokenizer over the given text.
+	 *
+	 * @param text - the text to be divided into words
+	 */
+	public WordTokenizer(CharSequence text) {
+		reset(text);
+	}
+
+	/**
+	 * Starts dividing new input, discarding whatever was left of the old input.
+	 *
+	 * @param input - the Reader supplying the text
+	 */
+	public void reset(Reader input) {
+		this.input = input;
+		this.text = null;
+		bufferPosition = 0;
+		bufferLimit = 0;
+		wordLength = 0;
+	}
+
+	/**
+	 * Starts dividing new text, discarding whatever was left of the old input.
+	 *
+	 * @param text - the text to be divided into words
+	 */
+	public void reset(CharSequence text) {
+		this.input = null;
+		this.text = text;
+		textPosition = 0;
+		bufferPosition = 0;
+		bufferLimit = 0;
+		wordLength = 0;
+	}
+
+	/**
+	 * Advances to the next word of the input.
+	 *
+	 * @return true if there was another word, false if the input is exhausted
+	 * @throws IOException if the input cannot be read
+	 */
+	public boolean nextWord() throws IOException {
+		wordLength = 0;
+
+		while (true) {
+			if (bufferPosition == bufferLimit && !fill())
+				return wordLength > 0;
+
+			char c = buffer[bufferPosition++];
+			int lower = c | 0x20;
+
+			if (lower >= 'a' && lower <= 'z') {
+				if (wordLength == word.length)
+					word = Arrays.copyOf(word, wordLength * 2);
+				word[wordLength++] = (char) lower;
+			}
+			else if (wordLength > 0)
+				return true;
+		}
+	}
+
+	/**
+	 * Returns the next word of the input, or null if the input is exhausted.
+	 *
+	 * @throws IOException if the input cannot be read
+	 */
+	public String next() throws IOException {
+		if (!nextWord())
+			return null;
+
+		return new String(word, 0, wordLength);
+	}
+
+	/**
+	 * Returns the buffer holding the current word in its first wordLength()
+	 * characters. The buffer is overwritten by the next call to nextWord().
+	 */
+	public char[] wordChars() {
+		return word;
+	}
+
+	/**
+	 * Returns the length of the current word.
+	 */
+	public int wordLength() {
+		return wordLength;
+	}
+
+	/**
+	 * Refills the buffer from the input.
+	 *
+	 * @return false if the input is exhausted
+	 */
+	private boolean fill() throws IOException {
+		if (text != null)
+			return fillFromText();
+
+		int read;
+		do {
+			read = input.read(buffer, 0, buffer.length);
+		} while (read == 0);
+
+		if (read < 0)
+			return false;
+
+		bufferPosition = 0;
+		bufferLimit = read;
+		return true;
+	}
+
+	/**
+	 * Refills the buffer from the CharSequence input.
+	 *
+	 * @return false if the text is exhausted
+	 */
+	private boolean fillFromText() {
+		int end = Math.min(text.length(), textPosition + buffer.length);
+		if (textPosition == end)
+			return false;
+
+		if (text instanceof String)
+			((String) text).getChars(textPosition, end, buffer, 0);
+		else
+			for (int i = textPosition; i < end; i++)
+				buffer[i - textPosition] = text.charAt(i);
+
+		bufferPosition = 0;
+		bufferLimit = end - textPosition;
+		textPosition = end;
+		return true;
+	}
+}
@@ -0,0 +1,96 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The time to build each dictionary structure from the whole word list, given in
+ * sorted order (as a dictionary file is) and shuffled. A plain BinarySearchTree
+ * built one word at a time is left out: from sorted input it is a linked list,
+ * and a single build takes minutes.
+ *
+ * @version October 18, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BuildBenchmark {
+
+	@Param({ "400000" })
+	public int size;
+
+	@Param({ "sorted", "shuffled" })
+	public String order;
+
+	private List<String> input;
+
+	@Setup
+	public void setUp() {
+		input = DictionaryBenchmark.generateWords(size, 42);
+		if (order.equals("shuffled")) {
+			input = new ArrayList<String>(input);
+			Collections.shuffle(input, new Random(3));
+		}
+	}
+
+	@Benchmark
+	public BinarySearchTree<String> binarySearchTreeBulkAddAll() {
+		BinarySearchTree<String> tree = new BinarySearchTree<String>();
+		tree.addAll(input);
+		return tree;
+	}
+
+	@Benchmark
+	public BinarySearchTree<String> binarySearchTreeAvlAdd() {
+		BinarySearchTree<String> tree = new BinarySearchTree<String>(true);
+		for (String word : input)
+			tree.add(word);
+		return tree;
+	}
+
+	@Benchmark
+	public BinarySearchTree<String> stringBinarySearchTreeAvlAdd() {
+		BinarySearchTree<String> tree = new StringBinarySearchTree(true);
+		for (String word : input)
+			tree.add(word);
+		return tree;
+	}
+
+	@Benchmark
+	public ArrayBinarySearchTree<String> arrayBinarySearchTreeAvlAdd() {
+		ArrayBinarySearchTree<String> tree = new ArrayBinarySearchTree<String>(true);
+		for (String word : input)
+			tree.add(word);
+		return tree;
+	}
+
+	@Benchmark
+	public StringHashSet stringHashSetAddAll() {
+		StringHashSet set = new StringHashSet();
+		set.addAll(input);
+		return set;
+	}
+
+	@Benchmark
+	public DawgSortedSet dawgSortedSet() {
+		return new DawgSortedSet(input);
+	}
+}
@@ -0,0 +1,96 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of removing a random tenth of the dictionary with removeAll and adding
+ * it back with addAll, so that each invocation leaves the structure as it found
+ * it. Divide by twice the number of words changed (a fifth of the dictionary)
+ * for the cost per word.
+ *
+ * @version October 18, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class ChurnBenchmark {
+
+	@Param({ "400000" })
+	public int size;
+
+	private List<String> changed;
+
+	private BinarySearchTree<String> balanced;
+
+	private BinarySearchTree<String> plain;
+
+	private ArrayBinarySearchTree<String> arrayTree;
+
+	private StringHashSet hashSet;
+
+	@Setup
+	public void setUp() {
+		List<String> words = DictionaryBenchmark.generateWords(size, 42);
+		List<String> churn = new ArrayList<String>(words);
+		Collections.shuffle(churn, new Random(9));
+		changed = new ArrayList<String>(churn.subList(0, words.size() / 10));
+
+		balanced = new BinarySearchTree<String>(true);
+		balanced.addAll(words);
+		//Built in shuffled order, or the plain tree would be a linked list
+		plain = new BinarySearchTree<String>();
+		for (String word : churn)
+			plain.add(word);
+		arrayTree = new ArrayBinarySearchTree<String>(true);
+		arrayTree.addAll(words);
+		hashSet = new StringHashSet();
+		hashSet.addAll(words);
+	}
+
+	@Benchmark
+	public int binarySearchTreeAvl() {
+		balanced.removeAll(changed);
+		balanced.addAll(changed);
+		return balanced.size();
+	}
+
+	@Benchmark
+	public int binarySearchTreePlain() {
+		plain.removeAll(changed);
+		plain.addAll(changed);
+		return plain.size();
+	}
+
+	@Benchmark
+	public int arrayBinarySearchTreeAvl() {
+		arrayTree.removeAll(changed);
+		arrayTree.addAll(changed);
+		return arrayTree.size();
+	}
+
+	@Benchmark
+	public int stringHashSet() {
+		hashSet.removeAll(changed);
+		hashSet.addAll(changed);
+		return hashSet.size();
+	}
+}
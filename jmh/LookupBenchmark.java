@@ -0,0 +1,117 @@
+package assign08;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The latency of one contains() call on each dictionary structure, for words
+ * that are in the dictionary (hit) and words that are not (miss), looked up in
+ * random order. Each call takes the next word from a fixed array of queries
+ * much larger than the CPU caches' share of the structure.
+ *
+ * @version October 18, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+	// a power of two, so that the next query is found with a mask
+	private static final int QUERIES = 1 << 20;
+
+	@Param({ "400000" })
+	public int size;
+
+	@Param({ "hit", "miss" })
+	public String kind;
+
+	private String[] queries;
+
+	private int next;
+
+	private BinarySearchTree<String> tree;
+
+	private BinarySearchTree<String> prefixKeyTree;
+
+	private ArrayBinarySearchTree<String> arrayTree;
+
+	private BloomFilterDictionary filteredTree;
+
+	private StringHashSet hashSet;
+
+	private DawgSortedSet dawg;
+
+	@Setup
+	public void setUp() {
+		List<String> words = DictionaryBenchmark.generateWords(size, 42);
+
+		tree = new BinarySearchTree<String>(true);
+		tree.addAll(words);
+		prefixKeyTree = new StringBinarySearchTree(true);
+		prefixKeyTree.addAll(words);
+		arrayTree = new ArrayBinarySearchTree<String>(true);
+		arrayTree.addAll(words);
+		filteredTree = new BloomFilterDictionary(new SortedSetDictionary(tree));
+		hashSet = new StringHashSet();
+		hashSet.addAll(words);
+		dawg = new DawgSortedSet(words);
+
+		//A trailing q never ends a generated word, so every miss is a real miss
+		Random random = new Random(5);
+		queries = new String[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			String word = words.get(random.nextInt(words.size()));
+			queries[i] = kind.equals("hit") ? word : DictionaryBenchmark.misspell(word, 1, random) + "q";
+		}
+	}
+
+	private String nextQuery() {
+		return queries[next++ & QUERIES - 1];
+	}
+
+	@Benchmark
+	public boolean binarySearchTree() {
+		return tree.contains(nextQuery());
+	}
+
+	@Benchmark
+	public boolean stringBinarySearchTree() {
+		return prefixKeyTree.contains(nextQuery());
+	}
+
+	@Benchmark
+	public boolean arrayBinarySearchTree() {
+		return arrayTree.contains(nextQuery());
+	}
+
+	@Benchmark
+	public boolean bloomFilterBinarySearchTree() {
+		return filteredTree.contains(nextQuery());
+	}
+
+	@Benchmark
+	public boolean stringHashSet() {
+		return hashSet.contains(nextQuery());
+	}
+
+	@Benchmark
+	public boolean dawgSortedSet() {
+		return dawg.contains(nextQuery());
+	}
+}
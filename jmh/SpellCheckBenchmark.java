@@ -0,0 +1,97 @@
+package assign08;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end spellCheck(File) throughput on a generated document, with the
+ * default hash dictionary and with tree dictionaries. Besides checks per second,
+ * the "megabytes" counter reports the document megabytes checked per second.
+ *
+ * @version October 18, 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SpellCheckBenchmark {
+
+	@Param({ "400000" })
+	public int size;
+
+	@Param({ "16" })
+	public int megabytes;
+
+	@Param({ "StringHashSet", "BinarySearchTree", "StringBinarySearchTree" })
+	public String dictionary;
+
+	private SpellChecker checker;
+
+	private File document;
+
+	private double documentMegabytes;
+
+	/**
+	 * Megabytes of document checked, reported by JMH as a rate.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Progress {
+
+		public double megabytes;
+
+		@Setup(Level.Iteration)
+		public void clear() {
+			megabytes = 0;
+		}
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		List<String> words = DictionaryBenchmark.generateWords(size, 42);
+
+		if (dictionary.equals("StringHashSet"))
+			checker = new SpellChecker(words);
+		else {
+			BinarySearchTree<String> tree = dictionary.equals("BinarySearchTree") ? new BinarySearchTree<String>(true)
+					: new StringBinarySearchTree(true);
+			tree.addAll(words);
+			checker = new SpellChecker(new SortedSetDictionary(tree));
+		}
+
+		document = DictionaryBenchmark
+				.writeTemporaryFile(DictionaryBenchmark.generateDocument(words, megabytes * 1_000_000, megabytes));
+		documentMegabytes = document.length() / 1e6;
+	}
+
+	@TearDown
+	public void tearDown() {
+		document.delete();
+	}
+
+	@Benchmark
+	public List<String> spellCheck(Progress progress) {
+		List<String> misspelled = checker.spellCheck(document);
+		progress.megabytes += documentMegabytes;
+		return misspelled;
+	}
+}
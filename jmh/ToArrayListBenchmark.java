@@ -0,0 +1,73 @@
+package assign08;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The cost of listing each sorted structure's whole contents in order, with
+ * toArrayList() and (for the tree) with its iterator.
+ *
+ * @version October 18, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ToArrayListBenchmark {
+
+	@Param({ "400000" })
+	public int size;
+
+	private BinarySearchTree<String> tree;
+
+	private ArrayBinarySearchTree<String> arrayTree;
+
+	private DawgSortedSet dawg;
+
+	@Setup
+	public void setUp() {
+		List<String> words = DictionaryBenchmark.generateWords(size, 42);
+		tree = new BinarySearchTree<String>(true);
+		tree.addAll(words);
+		arrayTree = new ArrayBinarySearchTree<String>(true);
+		arrayTree.addAll(words);
+		dawg = new DawgSortedSet(words);
+	}
+
+	@Benchmark
+	public ArrayList<String> binarySearchTree() {
+		return tree.toArrayList();
+	}
+
+	@Benchmark
+	public void binarySearchTreeIterator(Blackhole words) {
+		for (String word : tree)
+			words.consume(word);
+	}
+
+	@Benchmark
+	public ArrayList<String> arrayBinarySearchTree() {
+		return arrayTree.toArrayList();
+	}
+
+	@Benchmark
+	public ArrayList<String> dawgSortedSet() {
+		return dawg.toArrayList();
+	}
+}